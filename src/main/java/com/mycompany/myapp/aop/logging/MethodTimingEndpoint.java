@@ -0,0 +1,51 @@
+package com.mycompany.myapp.aop.logging;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Management endpoint enabling the {@link MethodTimingInterceptor} per package at runtime.
+ * <p>
+ * {@code GET /management/methodtiming} lists the sample rates of the enabled packages, and
+ * {@code POST /management/methodtiming} with a {@code packageName}, {@code enabled} and optional {@code sampleRate}
+ * enables or disables a package.
+ */
+@Endpoint(id = "methodtiming")
+public class MethodTimingEndpoint {
+
+    private final MethodTimingInterceptor methodTimingInterceptor;
+
+    private final double defaultSampleRate;
+
+    /**
+     * @param methodTimingInterceptor the interceptor to enable.
+     * @param defaultSampleRate the sample rate of the packages enabled without one.
+     */
+    public MethodTimingEndpoint(MethodTimingInterceptor methodTimingInterceptor, double defaultSampleRate) {
+        this.methodTimingInterceptor = methodTimingInterceptor;
+        this.defaultSampleRate = defaultSampleRate;
+    }
+
+    @ReadOperation
+    public Map<String, Double> sampleRates() {
+        return methodTimingInterceptor.getSampleRates();
+    }
+
+    @WriteOperation
+    public Map<String, Double> configure(String packageName, boolean enabled, @Nullable Double sampleRate) {
+        if (enabled) {
+            try {
+                methodTimingInterceptor.enable(packageName, sampleRate == null ? defaultSampleRate : sampleRate);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+            }
+        } else {
+            methodTimingInterceptor.disable(packageName);
+        }
+        return methodTimingInterceptor.getSampleRates();
+    }
+}
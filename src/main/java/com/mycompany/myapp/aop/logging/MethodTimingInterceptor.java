@@ -0,0 +1,163 @@
+package com.mycompany.myapp.aop.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Interceptor recording the latency of methods into the {@value #METER_NAME} Micrometer timers, tagged with their
+ * {@code class}, {@code method} and {@code exception}, for the packages it is enabled on.
+ * <p>
+ * Only a sample of the calls is timed, at a rate set per package: the timers count the sampled calls only. While no
+ * package is enabled, a call costs a volatile read and allocates nothing, so the interceptor stays in place in
+ * production and is enabled at runtime through the {@link MethodTimingEndpoint}.
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    public static final String METER_NAME = "method.timed";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    // Replaced as a whole on each change, so that a call reads a consistent state
+    private volatile Map<String, Double> sampleRates = Map.of();
+
+    private final ConcurrentMap<Method, MethodTiming> timings = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry the registry of the timers, only resolved once a package is enabled.
+     */
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Map<String, Double> rates = sampleRates;
+        if (rates.isEmpty()) {
+            return invocation.proceed();
+        }
+        MethodTiming timing = timings.get(invocation.getMethod());
+        if (timing == null || timing.rates != rates) {
+            timing = new MethodTiming(invocation, rates);
+            timings.put(invocation.getMethod(), timing);
+        }
+        if (!timing.sampled()) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timing.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timing.timer(e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Time the methods of the classes of a package and of its sub-packages.
+     *
+     * @param packageName the name of the package.
+     * @param sampleRate the fraction of the calls to time, greater than 0 and at most 1.
+     * @throws IllegalArgumentException if the sample rate is out of range.
+     */
+    public synchronized void enable(String packageName, double sampleRate) {
+        if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("The sample rate must be greater than 0 and at most 1: " + sampleRate);
+        }
+        Map<String, Double> rates = new HashMap<>(sampleRates);
+        rates.put(packageName, sampleRate);
+        sampleRates = Map.copyOf(rates);
+    }
+
+    /**
+     * Stop timing the methods of a package, the sub-packages enabled on their own being still timed.
+     *
+     * @param packageName the name of the package.
+     */
+    public synchronized void disable(String packageName) {
+        Map<String, Double> rates = new HashMap<>(sampleRates);
+        rates.remove(packageName);
+        sampleRates = Map.copyOf(rates);
+    }
+
+    /**
+     * @return the sample rates of the enabled packages.
+     */
+    public Map<String, Double> getSampleRates() {
+        return sampleRates;
+    }
+
+    /**
+     * The sample rate of the most specific enabled package of a class, or 0 if none is enabled.
+     */
+    private static double sampleRate(String className, Map<String, Double> rates) {
+        double sampleRate = 0;
+        int matchLength = -1;
+        for (Map.Entry<String, Double> rate : rates.entrySet()) {
+            String packageName = rate.getKey();
+            if (
+                packageName.length() > matchLength &&
+                className.startsWith(packageName) &&
+                className.length() > packageName.length() &&
+                className.charAt(packageName.length()) == '.'
+            ) {
+                sampleRate = rate.getValue();
+                matchLength = packageName.length();
+            }
+        }
+        return sampleRate;
+    }
+
+    /**
+     * The timing of a method, for the sample rates it was computed with.
+     */
+    private final class MethodTiming {
+
+        private final Map<String, Double> rates;
+
+        private final double sampleRate;
+
+        private final String className;
+
+        private final String methodName;
+
+        private final Timer timer;
+
+        private MethodTiming(MethodInvocation invocation, Map<String, Double> rates) {
+            Class<?> targetClass = invocation.getThis() == null
+                ? invocation.getMethod().getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+            this.rates = rates;
+            this.sampleRate = sampleRate(targetClass.getName(), rates);
+            this.className = targetClass.getSimpleName();
+            this.methodName = invocation.getMethod().getName();
+            this.timer = sampleRate > 0 ? timer("none") : null;
+        }
+
+        private boolean sampled() {
+            return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
+
+        private Timer timer(String exception) {
+            return Timer
+                .builder(METER_NAME)
+                .description("Sampled latency of the application methods")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("exception", exception)
+                .register(meterRegistry.getObject());
+        }
+    }
+}
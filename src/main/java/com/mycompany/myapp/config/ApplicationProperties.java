@@ -1,6 +1,13 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.service.datagen.DateSampler;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
 
 /**
  * Properties specific to Webservicedayfinder.
@@ -10,7 +17,543 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Cache cache = new Cache();
+
+    private final Security security = new Security();
+
+    private final CalendarDayLoader calendarDayLoader = new CalendarDayLoader();
+
+    private final MethodTiming methodTiming = new MethodTiming();
+
+    private final Logging logging = new Logging();
+
+    private final Database database = new Database();
+
+    private final Async async = new Async();
+
+    private final Datagen datagen = new Datagen();
+
+    private final Jfr jfr = new Jfr();
+
+    private final ResourceUsage resourceUsage = new ResourceUsage();
+
     // jhipster-needle-application-properties-property
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public CalendarDayLoader getCalendarDayLoader() {
+        return calendarDayLoader;
+    }
+
+    public MethodTiming getMethodTiming() {
+        return methodTiming;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public Database getDatabase() {
+        return database;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Datagen getDatagen() {
+        return datagen;
+    }
+
+    public Jfr getJfr() {
+        return jfr;
+    }
+
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    public static class Cache {
+
+        private final Local local = new Local();
+
+        private final CalendarDay calendarDay = new CalendarDay();
+
+        private final CalendarDaysByDate calendarDaysByDate = new CalendarDaysByDate();
+
+        private double earlyRefreshBeta = 1.0;
+
+        public Local getLocal() {
+            return local;
+        }
+
+        public CalendarDay getCalendarDay() {
+            return calendarDay;
+        }
+
+        public CalendarDaysByDate getCalendarDaysByDate() {
+            return calendarDaysByDate;
+        }
+
+        public double getEarlyRefreshBeta() {
+            return earlyRefreshBeta;
+        }
+
+        public void setEarlyRefreshBeta(double earlyRefreshBeta) {
+            this.earlyRefreshBeta = earlyRefreshBeta;
+        }
+
+        /**
+         * The local tier, in front of every Hazelcast backed cache.
+         */
+        public static class Local {
+
+            private int timeToLiveSeconds = 60;
+
+            private int maxSize = 10_000;
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+
+        public static class CalendarDay {
+
+            private int timeToLiveSeconds = 3600;
+
+            private int maxSize = 10_000;
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+
+        public static class CalendarDaysByDate {
+
+            private int timeToLiveSeconds = 600;
+
+            private int maxSize = 1_000;
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+    }
+
+    public static class Security {
+
+        private final VerifiedTokens verifiedTokens = new VerifiedTokens();
+
+        public VerifiedTokens getVerifiedTokens() {
+            return verifiedTokens;
+        }
+
+        /**
+         * The tokens already verified, which are not verified again until they expire.
+         */
+        public static class VerifiedTokens {
+
+            private long maxSize = 10_000;
+
+            public long getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(long maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+    }
+
+    /**
+     * Batching of the concurrent reads of calendarDays by id, which is disabled by default.
+     */
+    public static class CalendarDayLoader {
+
+        private boolean enabled = false;
+
+        private Duration window = Duration.ofMillis(2);
+
+        private int maxBatchSize = 100;
+
+        private Duration timeout = Duration.ofSeconds(5);
+
+        private int threads = 2;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+    }
+
+    /**
+     * Sampled timing of the service and REST methods, which can also be enabled per package at runtime.
+     */
+    public static class MethodTiming {
+
+        private List<String> packages = new ArrayList<>();
+
+        private double sampleRate = 0.01;
+
+        public List<String> getPackages() {
+            return packages;
+        }
+
+        public void setPackages(List<String> packages) {
+            this.packages = packages;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    public static class Logging {
+
+        private final Async async = new Async();
+
+        public Async getAsync() {
+            return async;
+        }
+
+        /**
+         * The asynchronous console appender, whose queue is drained by a single thread.
+         */
+        public static class Async {
+
+            private boolean enabled = false;
+
+            private int queueSize = 1024;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getQueueSize() {
+                return queueSize;
+            }
+
+            public void setQueueSize(int queueSize) {
+                this.queueSize = queueSize;
+            }
+        }
+    }
+
+    public static class Database {
+
+        private final ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter();
+
+        public ConcurrencyLimiter getConcurrencyLimiter() {
+            return concurrencyLimiter;
+        }
+
+        /**
+         * The limit of the threads holding connections at the same time, applied when the requests run on virtual threads.
+         * A thread inserting calendarDays takes a second connection for their ids, so the limit defaults to half the pool.
+         */
+        public static class ConcurrencyLimiter {
+
+            private int limit = 0;
+
+            private Duration acquireTimeout = Duration.ofSeconds(30);
+
+            public int getLimit() {
+                return limit;
+            }
+
+            public void setLimit(int limit) {
+                this.limit = limit;
+            }
+
+            public Duration getAcquireTimeout() {
+                return acquireTimeout;
+            }
+
+            public void setAcquireTimeout(Duration acquireTimeout) {
+                this.acquireTimeout = acquireTimeout;
+            }
+        }
+    }
+
+    public static class Async {
+
+        private InstrumentedAsyncTaskExecutor.RejectionPolicy rejectionPolicy = InstrumentedAsyncTaskExecutor.RejectionPolicy.FAIL_FAST;
+
+        public InstrumentedAsyncTaskExecutor.RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(InstrumentedAsyncTaskExecutor.RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+
+    /**
+     * The generation of calendarDays, run at startup with the {@code datagen} profile.
+     */
+    public static class Datagen {
+
+        private long rows = 1_000_000;
+
+        private DateSampler.Distribution distribution = DateSampler.Distribution.UNIFORM;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate from = LocalDate.of(1970, 1, 1);
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate to = LocalDate.of(2099, 12, 31);
+
+        private double skew = 3.0;
+
+        private int distinctDates = 100;
+
+        private Long seed;
+
+        private int batchSize = 1_000;
+
+        private Duration reportInterval = Duration.ofSeconds(10);
+
+        private boolean exitWhenDone = true;
+
+        public long getRows() {
+            return rows;
+        }
+
+        public void setRows(long rows) {
+            this.rows = rows;
+        }
+
+        public DateSampler.Distribution getDistribution() {
+            return distribution;
+        }
+
+        public void setDistribution(DateSampler.Distribution distribution) {
+            this.distribution = distribution;
+        }
+
+        public LocalDate getFrom() {
+            return from;
+        }
+
+        public void setFrom(LocalDate from) {
+            this.from = from;
+        }
+
+        public LocalDate getTo() {
+            return to;
+        }
+
+        public void setTo(LocalDate to) {
+            this.to = to;
+        }
+
+        public double getSkew() {
+            return skew;
+        }
+
+        public void setSkew(double skew) {
+            this.skew = skew;
+        }
+
+        public int getDistinctDates() {
+            return distinctDates;
+        }
+
+        public void setDistinctDates(int distinctDates) {
+            this.distinctDates = distinctDates;
+        }
+
+        public Long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(Long seed) {
+            this.seed = seed;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getReportInterval() {
+            return reportInterval;
+        }
+
+        public void setReportInterval(Duration reportInterval) {
+            this.reportInterval = reportInterval;
+        }
+
+        public boolean isExitWhenDone() {
+            return exitWhenDone;
+        }
+
+        public void setExitWhenDone(boolean exitWhenDone) {
+            this.exitWhenDone = exitWhenDone;
+        }
+    }
+
+    /**
+     * The Java Flight Recorder recordings started by the {@code jfr} management endpoint.
+     */
+    public static class Jfr {
+
+        private String directory = Path.of(System.getProperty("java.io.tmpdir"), "jfr").toString();
+
+        private Duration defaultDuration = Duration.ofMinutes(1);
+
+        private Duration maxDuration = Duration.ofMinutes(10);
+
+        private int maxRecordings = 5;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public Duration getDefaultDuration() {
+            return defaultDuration;
+        }
+
+        public void setDefaultDuration(Duration defaultDuration) {
+            this.defaultDuration = defaultDuration;
+        }
+
+        public Duration getMaxDuration() {
+            return maxDuration;
+        }
+
+        public void setMaxDuration(Duration maxDuration) {
+            this.maxDuration = maxDuration;
+        }
+
+        public int getMaxRecordings() {
+            return maxRecordings;
+        }
+
+        public void setMaxRecordings(int maxRecordings) {
+            this.maxRecordings = maxRecordings;
+        }
+    }
+
+    /**
+     * The heap and CPU time used by a sample of the requests.
+     */
+    public static class ResourceUsage {
+
+        private boolean enabled = true;
+
+        private double sampleRate = 0.1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
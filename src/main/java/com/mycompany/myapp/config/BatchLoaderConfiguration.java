@@ -0,0 +1,54 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.repository.CalendarDayRepository;
+import com.mycompany.myapp.service.batch.BatchLoader;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import com.mycompany.myapp.service.mapper.CalendarDayMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Batching of the concurrent reads of calendarDays by id, enabled by the {@code application.calendar-day-loader.enabled}
+ * property.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.calendar-day-loader", name = "enabled", havingValue = "true")
+public class BatchLoaderConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(BatchLoaderConfiguration.class);
+
+    @Bean
+    public BatchLoader<Long, CalendarDayDTO> calendarDayLoader(
+        ApplicationProperties applicationProperties,
+        CalendarDayRepository calendarDayRepository,
+        CalendarDayMapper calendarDayMapper,
+        MeterRegistry meterRegistry
+    ) {
+        ApplicationProperties.CalendarDayLoader properties = applicationProperties.getCalendarDayLoader();
+        log.debug("Batching the reads of CalendarDays by id, every {} or {} ids", properties.getWindow(), properties.getMaxBatchSize());
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("calendar-day-loader-");
+        threadFactory.setDaemon(true);
+        return new BatchLoader<>(
+            "calendarDay",
+            ids ->
+                calendarDayRepository
+                    .findAllById(ids)
+                    .stream()
+                    .map(calendarDayMapper::toDto)
+                    .collect(Collectors.toMap(CalendarDayDTO::getId, Function.identity())),
+            properties.getWindow(),
+            properties.getMaxBatchSize(),
+            properties.getTimeout(),
+            Executors.newScheduledThreadPool(properties.getThreads(), threadFactory),
+            meterRegistry
+        );
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 import org.springframework.boot.ansi.AnsiColor;
@@ -16,6 +17,9 @@ import org.springframework.boot.ansi.AnsiStyle;
 /**
  * Log filter to prevent attackers from forging log entries by submitting input containing CRLF characters.
  * CRLF characters are replaced with a red colored _ character.
+ * <p>
+ * Messages are scanned first and only copied when they hold such a character, and the decision to trust a logger is
+ * made once per logger name.
  *
  * @see <a href="https://owasp.org/www-community/attacks/Log_Injection">Log Forging Description</a>
  * @see <a href="https://github.com/jhipster/generator-jhipster/issues/14949">JHipster issue</a>
@@ -43,20 +47,72 @@ public class CRLFLogConverter extends CompositeConverter<ILoggingEvent> {
         ELEMENTS = Collections.unmodifiableMap(ansiElements);
     }
 
+    // The loggers are few and long-lived, so their decision is kept for good
+    private final Map<String, Boolean> safeLoggers = new ConcurrentHashMap<>();
+
+    private String replacement = "_";
+
     @Override
-    protected String transform(ILoggingEvent event, String in) {
+    public void start() {
         AnsiElement element = ELEMENTS.get(getFirstOption());
+        replacement = element == null ? "_" : toAnsiString("_", element);
+        super.start();
+    }
+
+    @Override
+    protected String transform(ILoggingEvent event, String in) {
         List<Marker> markers = event.getMarkerList();
         if ((markers != null && !markers.isEmpty() && markers.get(0).contains(CRLF_SAFE_MARKER)) || isLoggerSafe(event)) {
             return in;
         }
-        String replacement = element == null ? "_" : toAnsiString("_", element);
-        return in.replaceAll("[\n\r\t]", replacement);
+        return sanitize(in, replacement);
+    }
+
+    /**
+     * Replace the CR, LF and tab characters.
+     *
+     * @param in the text to sanitize.
+     * @param replacement the replacement of each character.
+     * @return the text itself when it has none of these characters, so that nothing is allocated in the common case.
+     */
+    static String sanitize(String in, String replacement) {
+        int length = in.length();
+        int i = 0;
+        while (i < length && !isCrlf(in.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return in;
+        }
+        StringBuilder sanitized = new StringBuilder(length + 16).append(in, 0, i);
+        for (; i < length; i++) {
+            char c = in.charAt(i);
+            if (isCrlf(c)) {
+                sanitized.append(replacement);
+            } else {
+                sanitized.append(c);
+            }
+        }
+        return sanitized.toString();
+    }
+
+    private static boolean isCrlf(char c) {
+        return c == '\n' || c == '\r' || c == '\t';
     }
 
     protected boolean isLoggerSafe(ILoggingEvent event) {
+        String loggerName = event.getLoggerName();
+        Boolean safe = safeLoggers.get(loggerName);
+        if (safe == null) {
+            safe = startsWithSafeLogger(loggerName);
+            safeLoggers.put(loggerName, safe);
+        }
+        return safe;
+    }
+
+    private static boolean startsWithSafeLogger(String loggerName) {
         for (String safeLogger : SAFE_LOGGERS) {
-            if (event.getLoggerName().startsWith(safeLogger)) {
+            if (loggerName.startsWith(safeLogger)) {
                 return true;
             }
         }
@@ -1,18 +1,41 @@
 package com.mycompany.myapp.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.cache.HazelcastCachingProvider;
 import com.hazelcast.config.*;
+import com.hazelcast.config.CacheSimpleConfig.ExpiryPolicyFactoryConfig;
+import com.hazelcast.config.CacheSimpleConfig.ExpiryPolicyFactoryConfig.DurationConfig;
+import com.hazelcast.config.CacheSimpleConfig.ExpiryPolicyFactoryConfig.TimedExpiryPolicyFactoryConfig;
+import com.hazelcast.config.CacheSimpleConfig.ExpiryPolicyFactoryConfig.TimedExpiryPolicyFactoryConfig.ExpiryPolicyType;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.mycompany.myapp.config.cache.CalendarDayCompactSerializer;
+import com.mycompany.myapp.config.cache.CalendarDayDTOCompactSerializer;
+import com.mycompany.myapp.config.cache.EarlyRefresh;
+import com.mycompany.myapp.config.cache.TwoLevelCacheManager;
+import com.mycompany.myapp.repository.CalendarDayRepository;
+import com.mycompany.myapp.service.CalendarDayService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.client.serviceregistry.Registration;
@@ -38,12 +61,20 @@ public class CacheConfiguration {
 
     private final DiscoveryClient discoveryClient;
 
+    private final ApplicationProperties applicationProperties;
+
     private Registration registration;
 
-    public CacheConfiguration(Environment env, ServerProperties serverProperties, DiscoveryClient discoveryClient) {
+    public CacheConfiguration(
+        Environment env,
+        ServerProperties serverProperties,
+        DiscoveryClient discoveryClient,
+        ApplicationProperties applicationProperties
+    ) {
         this.env = env;
         this.serverProperties = serverProperties;
         this.discoveryClient = discoveryClient;
+        this.applicationProperties = applicationProperties;
     }
 
     @Autowired(required = false)
@@ -57,10 +88,66 @@ public class CacheConfiguration {
         Hazelcast.shutdownAll();
     }
 
+    /**
+     * The early refreshes of the entries run on the {@code taskExecutor}, while their readers get the cached value.
+     */
     @Bean
-    public CacheManager cacheManager(HazelcastInstance hazelcastInstance) {
+    public CacheManager cacheManager(
+        HazelcastInstance hazelcastInstance,
+        MeterRegistry meterRegistry,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
         log.debug("Starting HazelcastCacheManager");
-        return new com.hazelcast.spring.cache.HazelcastCacheManager(hazelcastInstance);
+        CacheManager hazelcastCacheManager = new com.hazelcast.spring.cache.HazelcastCacheManager(hazelcastInstance);
+        CacheManager cacheManager = new TwoLevelCacheManager(
+            hazelcastInstance,
+            hazelcastCacheManager,
+            this::createLocalCache,
+            name -> createEarlyRefresh(hazelcastInstance, name),
+            taskExecutor,
+            meterRegistry,
+            "cacheManager"
+        );
+        // Puts and evictions made within a transaction are only applied once it is committed
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private org.springframework.cache.Cache createLocalCache(String name) {
+        ApplicationProperties.Cache.Local localProperties = applicationProperties.getCache().getLocal();
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(localProperties.getMaxSize());
+        if (localProperties.getTimeToLiveSeconds() > 0) {
+            caffeine.expireAfterWrite(Duration.ofSeconds(localProperties.getTimeToLiveSeconds()));
+        }
+        return new CaffeineCache(name, caffeine.build(), false);
+    }
+
+    /**
+     * The entries are refreshed before the expiry of their Hazelcast map, and the loads of as many entries as the local
+     * tier holds are remembered.
+     */
+    private EarlyRefresh createEarlyRefresh(HazelcastInstance hazelcastInstance, String name) {
+        double beta = applicationProperties.getCache().getEarlyRefreshBeta();
+        int timeToLiveSeconds = hazelcastInstance.getConfig().findMapConfig(name).getTimeToLiveSeconds();
+        if (beta <= 0 || timeToLiveSeconds <= 0) {
+            return null;
+        }
+        return new EarlyRefresh(Duration.ofSeconds(timeToLiveSeconds), beta, applicationProperties.getCache().getLocal().getMaxSize());
+    }
+
+    /**
+     * The JCache view of the Hazelcast instance, holding the Hibernate second level cache regions.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheManager(HazelcastInstance hazelcastInstance) {
+        log.debug("Starting Hazelcast JCache CacheManager");
+        return Caching
+            .getCachingProvider(HazelcastCachingProvider.MEMBER_CACHING_PROVIDER)
+            .getCacheManager(null, null, HazelcastCachingProvider.propertiesByInstanceItself(hazelcastInstance));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager jCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, jCacheManager);
     }
 
     @Bean
@@ -105,10 +192,28 @@ public class CacheConfiguration {
             }
         }
         config.setManagementCenterConfig(new ManagementCenterConfig());
+        config.setSerializationConfig(initializeSerializationConfig());
         config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties));
+        config.addMapConfig(initializeDomainMapConfig(jHipsterProperties));
+        config.addMapConfig(initializeCalendarDayMapConfig(jHipsterProperties));
+        config.addCacheConfig(initializeDomainCacheConfig(jHipsterProperties));
+        config.addCacheConfig(initializeCalendarDaysByDateCacheConfig());
+        config.addCacheConfig(initializeUpdateTimestampsCacheConfig());
         return Hazelcast.newHazelcastInstance(config);
     }
 
+    /**
+     * The cached values are written with Compact serializers: no class descriptor, and the dates as a single epoch day.
+     */
+    public static SerializationConfig initializeSerializationConfig() {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig
+            .getCompactSerializationConfig()
+            .addSerializer(new CalendarDayCompactSerializer())
+            .addSerializer(new CalendarDayDTOCompactSerializer());
+        return serializationConfig;
+    }
+
     private MapConfig initializeDefaultMapConfig(JHipsterProperties jHipsterProperties) {
         MapConfig mapConfig = new MapConfig("default");
 
@@ -145,6 +250,63 @@ public class CacheConfiguration {
         return mapConfig;
     }
 
+    private MapConfig initializeCalendarDayMapConfig(JHipsterProperties jHipsterProperties) {
+        ApplicationProperties.Cache.CalendarDay calendarDayProperties = applicationProperties.getCache().getCalendarDay();
+        MapConfig mapConfig = new MapConfig(CalendarDayService.CALENDAR_DAY_CACHE);
+        mapConfig.setBackupCount(jHipsterProperties.getCache().getHazelcast().getBackupCount());
+        mapConfig.setTimeToLiveSeconds(calendarDayProperties.getTimeToLiveSeconds());
+        mapConfig
+            .getEvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+            .setSize(calendarDayProperties.getMaxSize());
+        return mapConfig;
+    }
+
+    private CacheSimpleConfig initializeDomainCacheConfig(JHipsterProperties jHipsterProperties) {
+        CacheSimpleConfig cacheConfig = new CacheSimpleConfig().setName("com.mycompany.myapp.domain.*");
+        cacheConfig.setBackupCount(jHipsterProperties.getCache().getHazelcast().getBackupCount());
+        setTimeToLive(cacheConfig, jHipsterProperties.getCache().getHazelcast().getTimeToLiveSeconds());
+        return cacheConfig;
+    }
+
+    private CacheSimpleConfig initializeCalendarDaysByDateCacheConfig() {
+        ApplicationProperties.Cache.CalendarDaysByDate calendarDaysByDateProperties = applicationProperties
+            .getCache()
+            .getCalendarDaysByDate();
+        CacheSimpleConfig cacheConfig = new CacheSimpleConfig().setName(CalendarDayRepository.CALENDAR_DAYS_BY_DATE_CACHE);
+        setTimeToLive(cacheConfig, calendarDaysByDateProperties.getTimeToLiveSeconds());
+        cacheConfig.setEvictionConfig(
+            new EvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setSize(calendarDaysByDateProperties.getMaxSize())
+        );
+        return cacheConfig;
+    }
+
+    private CacheSimpleConfig initializeUpdateTimestampsCacheConfig() {
+        /*
+        The query cache compares its results to the last update timestamps of the tables:
+        they must never expire, otherwise stale query results would be considered up to date.
+        There is one entry per table, so the default entry count eviction is never reached.
+        */
+        return new CacheSimpleConfig().setName(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+    }
+
+    /**
+     * Like for the maps, a time to live of 0 means that the entries never expire.
+     */
+    private static void setTimeToLive(CacheSimpleConfig cacheConfig, int timeToLiveSeconds) {
+        if (timeToLiveSeconds > 0) {
+            cacheConfig.setExpiryPolicyFactoryConfig(
+                new ExpiryPolicyFactoryConfig(
+                    new TimedExpiryPolicyFactoryConfig(ExpiryPolicyType.CREATED, new DurationConfig(timeToLiveSeconds, TimeUnit.SECONDS))
+                )
+            );
+        }
+    }
+
     @Autowired(required = false)
     public void setGitProperties(GitProperties gitProperties) {
         this.gitProperties = gitProperties;
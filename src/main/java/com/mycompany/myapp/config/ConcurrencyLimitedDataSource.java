@@ -0,0 +1,193 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A {@link DataSource} letting at most a given number of threads hold a connection at the same time, the others
+ * waiting in turn for one of them to close its connection.
+ * <p>
+ * It is meant to sit in front of the connection pool when requests run on virtual threads: there is no longer a
+ * worker pool bounding the number of threads asking for a connection, and thousands of them would otherwise pile up
+ * in the pool, without any fairness, until they time out. The threads waiting here are counted by
+ * {@code jdbc.connections.limiter.waiting}.
+ * <p>
+ * Only the first connection of a thread waits for its turn: the ones it opens while holding it, like the connection
+ * on which Hibernate allocates the ids from a sequence table, are taken directly from the pool. Otherwise the threads
+ * holding all the permits would wait for each other. The pool must therefore be larger than the limit, twice as large
+ * when every thread may open a second connection.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final Semaphore permits;
+
+    private final int limit;
+
+    private final long acquireTimeoutNanos;
+
+    // The number of connections held by each thread
+    private final ThreadLocal<AtomicInteger> heldConnections = ThreadLocal.withInitial(AtomicInteger::new);
+
+    /**
+     * @param targetDataSource the data source to limit.
+     * @param limit the maximum number of threads holding connections at the same time.
+     * @param acquireTimeout how long a thread waits for its turn before failing.
+     */
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int limit, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(limit, true);
+        this.limit = limit;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger held = heldConnections.get();
+        boolean permitted = acquire(held);
+        try {
+            return limited(super.getConnection(), held, permitted);
+        } catch (SQLException | RuntimeException e) {
+            release(held, permitted);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger held = heldConnections.get();
+        boolean permitted = acquire(held);
+        try {
+            return limited(super.getConnection(username, password), held, permitted);
+        } catch (SQLException | RuntimeException e) {
+            release(held, permitted);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the maximum number of threads holding connections at the same time.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of threads waiting for a connection.
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge
+            .builder("jdbc.connections.limiter.waiting", this, ConcurrencyLimitedDataSource::getWaitingCount)
+            .description("The number of threads waiting for their turn to get a connection")
+            .register(registry);
+        Gauge
+            .builder("jdbc.connections.limiter.limit", this, ConcurrencyLimitedDataSource::getLimit)
+            .description("The maximum number of threads holding connections at the same time")
+            .register(registry);
+    }
+
+    /**
+     * Wait for a permit, unless the thread already holds a connection.
+     *
+     * @return whether a permit was acquired.
+     */
+    private boolean acquire(AtomicInteger held) throws SQLException {
+        if (held.get() > 0) {
+            held.incrementAndGet();
+            return false;
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                    "Connection is not available, " + permits.getQueueLength() + " threads still waiting after " +
+                    Duration.ofNanos(acquireTimeoutNanos).toMillis() +
+                    "ms"
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+        held.incrementAndGet();
+        return true;
+    }
+
+    private void release(AtomicInteger held, boolean permitted) {
+        held.decrementAndGet();
+        if (permitted) {
+            permits.release();
+        }
+    }
+
+    private Connection limited(Connection connection, AtomicInteger held, boolean permitted) {
+        return (Connection) Proxy.newProxyInstance(
+            ConcurrencyLimitedDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new ReleasingInvocationHandler(connection, held, permitted)
+        );
+    }
+
+    /**
+     * Gives the permit of a connection back when the connection is closed, once.
+     */
+    private final class ReleasingInvocationHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private final AtomicInteger held;
+
+        private final boolean permitted;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasingInvocationHandler(Connection connection, AtomicInteger held, boolean permitted) {
+            this.connection = connection;
+            this.held = held;
+            this.permitted = permitted;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    connection.close();
+                } finally {
+                    if (closed.compareAndSet(false, true)) {
+                        release(held, permitted);
+                    }
+                }
+                return null;
+            }
+            if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
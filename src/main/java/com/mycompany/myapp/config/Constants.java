@@ -7,5 +7,7 @@ public final class Constants {
 
     public static final String SYSTEM = "system";
 
+    public static final String SPRING_PROFILE_DATAGEN = "datagen";
+
     private Constants() {}
 }
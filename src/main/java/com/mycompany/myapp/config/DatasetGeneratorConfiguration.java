@@ -0,0 +1,80 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.datagen.CalendarDayDatasetGenerator;
+import com.mycompany.myapp.service.datagen.DateSampler;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generation of calendarDays once the application is started, with the {@code datagen} profile, and the
+ * {@code application.datagen} properties which can be given on the command line:
+ * <pre>
+ * java -jar webservicedayfinder.jar --spring.profiles.active=prod,datagen \
+ *     --application.datagen.rows=50000000 --application.datagen.distribution=skewed
+ * </pre>
+ * The application stops once the calendarDays are written, unless {@code application.datagen.exit-when-done} is
+ * {@code false}. As Liquibase runs asynchronously with the {@code dev} profile, the schema must already be up to date
+ * when generating with it.
+ */
+@Configuration
+@Profile(Constants.SPRING_PROFILE_DATAGEN)
+public class DatasetGeneratorConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(DatasetGeneratorConfiguration.class);
+
+    @Bean
+    public CalendarDayDatasetGenerator calendarDayDatasetGenerator(
+        ApplicationProperties applicationProperties,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        ApplicationProperties.Datagen properties = applicationProperties.getDatagen();
+        return new CalendarDayDatasetGenerator(
+            jdbcTemplate,
+            new TransactionTemplate(transactionManager),
+            properties.getBatchSize(),
+            properties.getReportInterval()
+        );
+    }
+
+    @Bean
+    public ApplicationRunner calendarDayDatasetGeneratorRunner(
+        CalendarDayDatasetGenerator generator,
+        ApplicationProperties applicationProperties,
+        ConfigurableApplicationContext context
+    ) {
+        return args -> {
+            ApplicationProperties.Datagen properties = applicationProperties.getDatagen();
+            long seed = properties.getSeed() != null ? properties.getSeed() : ThreadLocalRandom.current().nextLong();
+            log.info(
+                "Generating calendarDays dated from {} to {}, {} with the seed {}",
+                properties.getFrom(),
+                properties.getTo(),
+                properties.getDistribution(),
+                seed
+            );
+            DateSampler sampler = new DateSampler(
+                properties.getDistribution(),
+                properties.getFrom(),
+                properties.getTo(),
+                properties.getSkew(),
+                properties.getDistinctDates(),
+                seed
+            );
+            generator.generate(properties.getRows(), sampler);
+            if (properties.isExitWhenDone()) {
+                System.exit(SpringApplication.exit(context));
+            }
+        };
+    }
+}
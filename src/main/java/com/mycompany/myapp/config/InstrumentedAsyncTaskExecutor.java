@@ -0,0 +1,188 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * An {@link AsyncTaskExecutor} timing how long its tasks wait in the queue and how long they run, and applying a
+ * {@link RejectionPolicy} to the tasks its thread pool cannot take.
+ * <p>
+ * The tasks are timed by {@code executor.idle} and {@code executor}, and the rejected ones are counted by
+ * {@code executor.rejected}, all tagged with the name of the executor. The state of the thread pool, when there is one,
+ * is exported with the other {@code executor.*} meters of {@link ExecutorServiceMetrics}: {@code executor.active},
+ * {@code executor.queued}, {@code executor.pool.size}... The tasks submitted before the meters are bound are not timed.
+ */
+public class InstrumentedAsyncTaskExecutor implements AsyncTaskExecutor, InitializingBean, DisposableBean, MeterBinder {
+
+    /**
+     * What to do with a task once all the threads are busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Run the task in the thread submitting it, which slows the submitter down.
+         */
+        CALLER_RUNS,
+        /**
+         * Throw a {@link org.springframework.core.task.TaskRejectedException}, answered with a 503 to the REST requests.
+         */
+        FAIL_FAST,
+    }
+
+    private final AsyncTaskExecutor executor;
+
+    private final ThreadPoolTaskExecutor threadPool;
+
+    private final RejectionPolicy rejectionPolicy;
+
+    private final String name;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile Timer waitTimer;
+
+    private volatile Timer runTimer;
+
+    /**
+     * @param executor the executor running the tasks.
+     * @param threadPool the thread pool behind the executor, which must not be initialized yet, or {@code null} if there is
+     * none: the rejection policy is then not applied.
+     * @param rejectionPolicy the policy applied to the tasks the thread pool cannot take.
+     * @param name the name of the executor, tagging the meters.
+     */
+    public InstrumentedAsyncTaskExecutor(
+        AsyncTaskExecutor executor,
+        @Nullable ThreadPoolTaskExecutor threadPool,
+        RejectionPolicy rejectionPolicy,
+        String name
+    ) {
+        this.executor = executor;
+        this.threadPool = threadPool;
+        this.rejectionPolicy = rejectionPolicy;
+        this.name = name;
+        if (threadPool != null) {
+            threadPool.setRejectedExecutionHandler(this::rejectedExecution);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(timed(task));
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return executor.submit(timed(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(timed(task));
+    }
+
+    /**
+     * @return the number of tasks rejected since the executor was created, including the ones run by their caller.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (executor instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof DisposableBean disposableBean) {
+            disposableBean.destroy();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("name", name);
+        waitTimer =
+            Timer
+                .builder("executor.idle")
+                .tags(tags)
+                .description("The time the tasks waited in the queue")
+                .publishPercentileHistogram()
+                .register(registry);
+        runTimer =
+            Timer
+                .builder("executor")
+                .tags(tags)
+                .description("The time the tasks took to run")
+                .publishPercentileHistogram()
+                .register(registry);
+        FunctionCounter
+            .builder("executor.rejected", this, InstrumentedAsyncTaskExecutor::getRejectedCount)
+            .tags(tags)
+            .tag("policy", rejectionPolicy.name().toLowerCase(Locale.ROOT))
+            .description("The number of tasks rejected because all the threads were busy and the queue was full")
+            .register(registry);
+        if (threadPool != null) {
+            new ExecutorServiceMetrics(threadPool.getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry);
+        }
+    }
+
+    private void rejectedExecution(Runnable task, ThreadPoolExecutor threadPoolExecutor) {
+        rejected.increment();
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS && !threadPoolExecutor.isShutdown()) {
+            task.run();
+        } else {
+            throw new RejectedExecutionException("The " + name + " executor is saturated, it rejected the task " + task);
+        }
+    }
+
+    private Runnable timed(Runnable task) {
+        long submitted = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                record(submitted, started);
+            }
+        };
+    }
+
+    private <T> Callable<T> timed(Callable<T> task) {
+        long submitted = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                record(submitted, started);
+            }
+        };
+    }
+
+    private void record(long submitted, long started) {
+        Timer wait = waitTimer;
+        Timer run = runTimer;
+        if (wait != null && run != null) {
+            wait.record(started - submitted, TimeUnit.NANOSECONDS);
+            run.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+}
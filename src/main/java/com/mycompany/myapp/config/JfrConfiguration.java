@@ -0,0 +1,40 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.jfr.JfrEndpoint;
+import com.mycompany.myapp.management.jfr.ServiceMethodEventInterceptor;
+import java.nio.file.Path;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Java Flight Recorder recordings started by the {@code jfr} management endpoint, and the application events they record
+ * along the JVM ones: the service method calls, the JWT verifications and the cache lookups.
+ */
+@Configuration
+public class JfrConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static ServiceMethodEventInterceptor serviceMethodEventInterceptor() {
+        return new ServiceMethodEventInterceptor();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceMethodEventAdvisor(ServiceMethodEventInterceptor serviceMethodEventInterceptor) {
+        AspectJExpressionPointcutAdvisor advisor = new AspectJExpressionPointcutAdvisor();
+        advisor.setExpression("within(com.mycompany.myapp.service..*) && within(@org.springframework.stereotype.Service *)");
+        advisor.setAdvice(serviceMethodEventInterceptor);
+        return advisor;
+    }
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Jfr jfr = applicationProperties.getJfr();
+        return new JfrEndpoint(Path.of(jfr.getDirectory()), jfr.getDefaultDuration(), jfr.getMaxDuration(), jfr.getMaxRecordings());
+    }
+}
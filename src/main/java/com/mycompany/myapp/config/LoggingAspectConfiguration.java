@@ -1,6 +1,13 @@
 package com.mycompany.myapp.config;
 
 import com.mycompany.myapp.aop.logging.LoggingAspect;
+import com.mycompany.myapp.aop.logging.MethodTimingEndpoint;
+import com.mycompany.myapp.aop.logging.MethodTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.JHipsterConstants;
@@ -14,4 +21,35 @@ public class LoggingAspectConfiguration {
     public LoggingAspect loggingAspect(Environment env) {
         return new LoggingAspect(env);
     }
+
+    /**
+     * The repositories are not timed, Spring Data already times them as {@code spring.data.repository.invocations}.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static MethodTimingInterceptor methodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MethodTimingInterceptor(meterRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor methodTimingAdvisor(MethodTimingInterceptor methodTimingInterceptor) {
+        AspectJExpressionPointcutAdvisor advisor = new AspectJExpressionPointcutAdvisor();
+        advisor.setExpression(
+            "(within(com.mycompany.myapp.service..*) || within(com.mycompany.myapp.web.rest..*))" +
+            " && (within(@org.springframework.stereotype.Service *) || within(@org.springframework.web.bind.annotation.RestController *))"
+        );
+        advisor.setAdvice(methodTimingInterceptor);
+        return advisor;
+    }
+
+    @Bean
+    public MethodTimingEndpoint methodTimingEndpoint(
+        MethodTimingInterceptor methodTimingInterceptor,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.MethodTiming methodTiming = applicationProperties.getMethodTiming();
+        methodTiming.getPackages().forEach(packageName -> methodTimingInterceptor.enable(packageName, methodTiming.getSampleRate()));
+        return new MethodTimingEndpoint(methodTimingInterceptor, methodTiming.getSampleRate());
+    }
 }
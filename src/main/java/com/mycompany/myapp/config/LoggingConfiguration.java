@@ -2,9 +2,13 @@ package com.mycompany.myapp.config;
 
 import static tech.jhipster.config.logging.LoggingUtils.*;
 
+import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.LoggerFactory;
@@ -13,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.cloud.consul.serviceregistry.ConsulRegistration;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import tech.jhipster.config.JHipsterProperties;
 
@@ -23,10 +28,15 @@ import tech.jhipster.config.JHipsterProperties;
 @RefreshScope
 public class LoggingConfiguration {
 
+    private static final String CONSOLE_APPENDER_NAME = "CONSOLE";
+
+    private static final String ASYNC_CONSOLE_APPENDER_NAME = "ASYNC_CONSOLE";
+
     public LoggingConfiguration(
         @Value("${spring.application.name}") String appName,
         @Value("${server.port}") String serverPort,
         JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
         ObjectProvider<ConsulRegistration> consulRegistration,
         ObjectProvider<BuildProperties> buildProperties,
         ObjectMapper mapper
@@ -52,5 +62,44 @@ public class LoggingConfiguration {
         if (loggingProperties.isUseJsonFormat() || logstashProperties.isEnabled()) {
             addContextListener(context, customFields, loggingProperties);
         }
+        ApplicationProperties.Logging.Async asyncProperties = applicationProperties.getLogging().getAsync();
+        if (asyncProperties.isEnabled()) {
+            addAsyncConsoleAppender(context, asyncProperties.getQueueSize());
+        }
+    }
+
+    /**
+     * Exports the metrics of the asynchronous console appender, when it is enabled.
+     */
+    @Bean
+    public MeterBinder asyncConsoleAppenderMeterBinder() {
+        return registry -> {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            Appender<ILoggingEvent> appender = context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(ASYNC_CONSOLE_APPENDER_NAME);
+            if (appender instanceof MeteredAsyncAppender asyncAppender) {
+                asyncAppender.bindTo(registry);
+            }
+        };
+    }
+
+    /**
+     * Moves the console appender of the root logger behind a {@link MeteredAsyncAppender}, so that the logging threads
+     * only queue their events.
+     */
+    private static void addAsyncConsoleAppender(LoggerContext context, int queueSize) {
+        Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        Appender<ILoggingEvent> consoleAppender = rootLogger.getAppender(CONSOLE_APPENDER_NAME);
+        // On a refresh, the console appender is already behind the asynchronous one
+        if (consoleAppender == null || rootLogger.getAppender(ASYNC_CONSOLE_APPENDER_NAME) != null) {
+            return;
+        }
+        MeteredAsyncAppender asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName(ASYNC_CONSOLE_APPENDER_NAME);
+        asyncAppender.setQueueSize(queueSize);
+        asyncAppender.addAppender(consoleAppender);
+        asyncAppender.start();
+        rootLogger.addAppender(asyncAppender);
+        rootLogger.detachAppender(consoleAppender);
     }
 }
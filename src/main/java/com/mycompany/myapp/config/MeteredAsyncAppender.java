@@ -0,0 +1,57 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link AsyncAppender} exporting the depth of its queue and the number of events it discarded.
+ * <p>
+ * The logging threads only put their events in a bounded array queue, which a single worker drains into the attached
+ * appenders. Once the queue is 80% full, the TRACE, DEBUG and INFO events are discarded, and the WARN and ERROR events
+ * wait for room: every event lost is therefore counted by {@code logback.async.discarded}.
+ */
+public class MeteredAsyncAppender extends AsyncAppender implements MeterBinder {
+
+    private final LongAdder discarded = new LongAdder();
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // Only called once the queue is over its discarding threshold
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    /**
+     * @return the number of events discarded since the appender was created.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge
+            .builder("logback.async.queue.size", this, MeteredAsyncAppender::getNumberOfElementsInQueue)
+            .tag("appender", getName())
+            .description("The number of log events waiting in the queue")
+            .register(registry);
+        Gauge
+            .builder("logback.async.queue.capacity", this, MeteredAsyncAppender::getQueueSize)
+            .tag("appender", getName())
+            .description("The maximum number of log events in the queue")
+            .register(registry);
+        FunctionCounter
+            .builder("logback.async.discarded", this, MeteredAsyncAppender::getDiscardedCount)
+            .tag("appender", getName())
+            .description("The number of log events discarded because the queue was nearly full")
+            .register(registry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Runs the requests on virtual threads, when {@code spring.threads.virtual.enabled} is set on Java 21 or later.
+ * <p>
+ * Undertow then hands each request to a new virtual thread instead of one of its workers, and the {@code taskExecutor}
+ * of {@link AsyncConfiguration} starts a virtual thread per task. As nothing bounds the number of threads any longer,
+ * the data source is wrapped in a {@link ConcurrencyLimitedDataSource}, so that the requests queue fairly for the
+ * connections of the pool instead of timing out in it. This also bounds the number of carrier threads pinned by the
+ * JDBC driver, which still blocks inside {@code synchronized} blocks.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadsCustomizer() {
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo -> {
+                log.debug("Running the Undertow requests on virtual threads");
+                deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-"));
+                deploymentInfo.setAsyncExecutor(new VirtualThreadTaskExecutor("undertow-async-"));
+            });
+    }
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(ObjectProvider<ApplicationProperties> applicationProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                ApplicationProperties.Database.ConcurrencyLimiter properties = applicationProperties
+                    .getObject()
+                    .getDatabase()
+                    .getConcurrencyLimiter();
+                int limit = properties.getLimit();
+                if (limit <= 0) {
+                    HikariDataSource hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                    if (hikariDataSource == null) {
+                        log.warn("Not limiting the connections of the '{}' data source, whose pool size is unknown", beanName);
+                        return bean;
+                    }
+                    // Room for a second connection per thread, for the ids allocated from the sequence tables
+                    limit = Math.max(1, hikariDataSource.getMaximumPoolSize() / 2);
+                }
+                log.debug("Limiting the connections of the '{}' data source to {} at the same time", beanName, limit);
+                return new ConcurrencyLimitedDataSource(dataSource, limit, properties.getAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMeterBinder(ObjectProvider<DataSource> dataSources) {
+        return registry ->
+            dataSources.orderedStream().forEach(dataSource -> {
+                if (dataSource instanceof ConcurrencyLimitedDataSource limitedDataSource) {
+                    limitedDataSource.bindTo(registry);
+                }
+            });
+    }
+}
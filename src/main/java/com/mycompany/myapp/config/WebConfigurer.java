@@ -1,12 +1,17 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.web.filter.ResourceUsageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.server.*;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.cors.CorsConfiguration;
@@ -53,4 +58,24 @@ public class WebConfigurer implements ServletContextInitializer {
         }
         return new CorsFilter(source);
     }
+
+    /**
+     * Measures the heap and CPU time used by a sample of the requests, around the security filters so that the
+     * verification of the tokens is accounted for.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.resource-usage", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResourceUsageFilter> resourceUsageFilter(
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        double sampleRate = applicationProperties.getResourceUsage().getSampleRate();
+        log.debug("Registering the resource usage filter, measuring {} of the requests", sampleRate);
+        FilterRegistrationBean<ResourceUsageFilter> registration = new FilterRegistrationBean<>(
+            new ResourceUsageFilter(meterRegistry, sampleRate)
+        );
+        // Inside the http.server.requests observation filter, outside the security filters
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
 }
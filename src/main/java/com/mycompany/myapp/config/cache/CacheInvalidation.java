@@ -0,0 +1,12 @@
+package com.mycompany.myapp.config.cache;
+
+import java.io.Serializable;
+
+/**
+ * The message published by a cluster member when it changes an entry of a {@link TwoLevelCache}, so that the other
+ * members drop the entry from their local tier.
+ *
+ * @param cacheName the name of the changed cache.
+ * @param key the key of the changed entry, or {@code null} when the whole cache is cleared.
+ */
+public record CacheInvalidation(String cacheName, Object key) implements Serializable {}
@@ -0,0 +1,45 @@
+package com.mycompany.myapp.config.cache;
+
+import com.hazelcast.nio.serialization.FieldKind;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.mycompany.myapp.domain.CalendarDay;
+
+/**
+ * Hazelcast Compact serializer of the {@link CalendarDay} entity.
+ */
+public class CalendarDayCompactSerializer implements CompactSerializer<CalendarDay> {
+
+    @Override
+    public CalendarDay read(CompactReader reader) {
+        return new CalendarDay()
+            .id(reader.readNullableInt64("id"))
+            .date(EpochDays.toLocalDate(reader.readNullableInt32("date")))
+            .version(readVersion(reader));
+    }
+
+    /**
+     * @return the version, or {@code null} for the entries written before it was serialized, until they expire.
+     */
+    static Long readVersion(CompactReader reader) {
+        return reader.getFieldKind("version") == FieldKind.NOT_AVAILABLE ? null : reader.readNullableInt64("version");
+    }
+
+    @Override
+    public void write(CompactWriter writer, CalendarDay calendarDay) {
+        writer.writeNullableInt64("id", calendarDay.getId());
+        writer.writeNullableInt32("date", EpochDays.toEpochDay(calendarDay.getDate()));
+        writer.writeNullableInt64("version", calendarDay.getVersion());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "calendarDay";
+    }
+
+    @Override
+    public Class<CalendarDay> getCompactClass() {
+        return CalendarDay.class;
+    }
+}
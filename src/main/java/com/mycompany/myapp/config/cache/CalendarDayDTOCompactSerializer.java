@@ -0,0 +1,39 @@
+package com.mycompany.myapp.config.cache;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+
+/**
+ * Hazelcast Compact serializer of {@link CalendarDayDTO}, the values of the
+ * {@link com.mycompany.myapp.service.CalendarDayService#CALENDAR_DAY_CACHE} cache.
+ */
+public class CalendarDayDTOCompactSerializer implements CompactSerializer<CalendarDayDTO> {
+
+    @Override
+    public CalendarDayDTO read(CompactReader reader) {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(reader.readNullableInt64("id"));
+        calendarDayDTO.setDate(EpochDays.toLocalDate(reader.readNullableInt32("date")));
+        calendarDayDTO.setVersion(CalendarDayCompactSerializer.readVersion(reader));
+        return calendarDayDTO;
+    }
+
+    @Override
+    public void write(CompactWriter writer, CalendarDayDTO calendarDayDTO) {
+        writer.writeNullableInt64("id", calendarDayDTO.getId());
+        writer.writeNullableInt32("date", EpochDays.toEpochDay(calendarDayDTO.getDate()));
+        writer.writeNullableInt64("version", calendarDayDTO.getVersion());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "calendarDayDTO";
+    }
+
+    @Override
+    public Class<CalendarDayDTO> getCompactClass() {
+        return CalendarDayDTO.class;
+    }
+}
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when to refresh a cached entry before it expires, with the probabilistic early expiration of Vattani et al.
+ * ("Optimal Probabilistic Cache Stampede Prevention", also known as XFetch).
+ * <p>
+ * Each read refreshes the entry when {@code now - delta * beta * ln(random)} is past its expiry, {@code delta} being
+ * the time it took to load it: the closer the expiry and the longer the load, the likelier the refresh. A hot entry is
+ * therefore refreshed on a read shortly before it expires, while a cold one just expires. A higher {@code beta}
+ * refreshes earlier.
+ * <p>
+ * Only the entries loaded by this cluster member are known, as their load time and expiry are not shared.
+ */
+public class EarlyRefresh {
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Load> loads;
+
+    private final long timeToLiveNanos;
+
+    private final double beta;
+
+    private final LongSupplier nanoTime;
+
+    private final DoubleSupplier random;
+
+    /**
+     * @param timeToLive the time to live of the cached entries.
+     * @param beta the eagerness of the refreshes, {@code 1.0} being the usual value.
+     * @param maximumSize the maximum number of entries whose load is remembered.
+     */
+    public EarlyRefresh(Duration timeToLive, double beta, long maximumSize) {
+        this(timeToLive, beta, maximumSize, System::nanoTime, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    EarlyRefresh(Duration timeToLive, double beta, long maximumSize, LongSupplier nanoTime, DoubleSupplier random) {
+        this.loads = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).ticker(nanoTime::getAsLong).build();
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.beta = beta;
+        this.nanoTime = nanoTime;
+        this.random = random;
+    }
+
+    /**
+     * @return the current time, to measure a load.
+     */
+    public long start() {
+        return nanoTime.getAsLong();
+    }
+
+    /**
+     * Remember that the entry of a key was cached, after a load begun at the given time.
+     */
+    public void loaded(Object key, long start) {
+        long now = nanoTime.getAsLong();
+        loads.put(key, new Load(now - start, now + timeToLiveNanos));
+    }
+
+    /**
+     * Remember that the entry of a key was replaced, which restarts its time to live.
+     */
+    public void written(Object key) {
+        loads.asMap().computeIfPresent(key, (k, load) -> new Load(load.delta(), nanoTime.getAsLong() + timeToLiveNanos));
+    }
+
+    /**
+     * Forget the entry of a key.
+     *
+     * @param key the key of the entry, or {@code null} to forget all the entries.
+     */
+    public void forget(Object key) {
+        if (key == null) {
+            loads.invalidateAll();
+        } else {
+            loads.invalidate(key);
+        }
+    }
+
+    /**
+     * @return whether the entry of the key, which was just read, should be refreshed.
+     */
+    public boolean shouldRefresh(Object key) {
+        Load load = loads.getIfPresent(key);
+        if (load == null) {
+            return false;
+        }
+        // 1 - random is in (0, 1], so the logarithm is finite and not positive
+        double gap = -load.delta() * beta * Math.log(1.0 - random.getAsDouble());
+        return load.expiry() - nanoTime.getAsLong() <= gap;
+    }
+
+    private record Load(long delta, long expiry) {}
+}
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.config.cache;
+
+import java.time.LocalDate;
+
+/**
+ * Dates stored as a single 32 bits epoch day by the Compact serializers.
+ */
+final class EpochDays {
+
+    private EpochDays() {}
+
+    /**
+     * @throws ArithmeticException if the date is too far from 1970 to fit in an {@code int}, which is never the case for
+     * a date stored in MySQL.
+     */
+    static Integer toEpochDay(LocalDate date) {
+        return date == null ? null : Math.toIntExact(date.toEpochDay());
+    }
+
+    static LocalDate toLocalDate(Integer epochDay) {
+        return epochDay == null ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,177 @@
+package com.mycompany.myapp.config.cache;
+
+import com.mycompany.myapp.management.jfr.CacheLookupEvent;
+import com.mycompany.myapp.service.cache.MultiGetCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import jdk.jfr.EventType;
+import org.springframework.cache.Cache;
+
+/**
+ * A {@link Cache} decorator counting the hits, misses, puts and removals of the cache it wraps.
+ * <p>
+ * The meters follow the Micrometer cache conventions: {@code cache.gets} tagged with {@code result=hit|miss},
+ * {@code cache.puts} and {@code cache.removals}, all tagged with the {@code cache} name. The lookups are also recorded
+ * as {@link CacheLookupEvent}s, with the {@code tier} tag.
+ */
+public class MeteredCache implements MultiGetCache {
+
+    private static final EventType CACHE_LOOKUP_EVENT_TYPE = EventType.getEventType(CacheLookupEvent.class);
+
+    private final Cache cache;
+
+    private final String tier;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter puts;
+
+    private final Counter removals;
+
+    public MeteredCache(Cache cache, MeterRegistry meterRegistry, Tags tags) {
+        this.cache = cache;
+        this.tier = tags.stream().filter(tag -> tag.getKey().equals("tier")).map(Tag::getValue).findFirst().orElse(null);
+        Tags cacheTags = tags.and("cache", cache.getName());
+        this.hits = Counter
+            .builder("cache.gets")
+            .tags(cacheTags)
+            .tag("result", "hit")
+            .description("The number of times cache lookup methods have returned a cached value")
+            .register(meterRegistry);
+        this.misses = Counter
+            .builder("cache.gets")
+            .tags(cacheTags)
+            .tag("result", "miss")
+            .description("The number of times cache lookup methods have not returned a value")
+            .register(meterRegistry);
+        this.puts = Counter
+            .builder("cache.puts")
+            .tags(cacheTags)
+            .description("The number of entries added to the cache")
+            .register(meterRegistry);
+        this.removals = Counter
+            .builder("cache.removals")
+            .tags(cacheTags)
+            .description("The number of entries explicitly removed from the cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return cache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheLookupEvent event = beginLookup();
+        return count(event, cache.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        CacheLookupEvent event = beginLookup();
+        return count(event, cache.get(key, type));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheLookupEvent event = beginLookup();
+        boolean[] loaded = { false };
+        T value = cache.get(
+            key,
+            () -> {
+                loaded[0] = true;
+                return valueLoader.call();
+            }
+        );
+        (loaded[0] ? misses : hits).increment();
+        commitLookup(event, 1, loaded[0] ? 0 : 1);
+        return value;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        CacheLookupEvent event = beginLookup();
+        Map<Object, Object> values = MultiGetCaches.getAll(cache, keys);
+        hits.increment(values.size());
+        misses.increment(keys.size() - values.size());
+        commitLookup(event, keys.size(), values.size());
+        return values;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        cache.put(key, value);
+        puts.increment();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = cache.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        cache.evict(key);
+        removals.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = cache.evictIfPresent(key);
+        if (evicted) {
+            removals.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return cache.invalidate();
+    }
+
+    private <T> T count(CacheLookupEvent event, T value) {
+        (value != null ? hits : misses).increment();
+        commitLookup(event, 1, value != null ? 1 : 0);
+        return value;
+    }
+
+    /**
+     * @return the begun event, or {@code null} when no recording enables it, so that the lookups allocate nothing.
+     */
+    private static CacheLookupEvent beginLookup() {
+        if (!CACHE_LOOKUP_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    private void commitLookup(CacheLookupEvent event, int keys, int hits) {
+        if (event != null) {
+            event.commit(cache.getName(), tier, keys, hits);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mycompany.myapp.config.cache;
+
+import com.hazelcast.map.IMap;
+import com.mycompany.myapp.service.cache.MultiGetCache;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import org.springframework.cache.Cache;
+
+/**
+ * Reads many entries of any {@link Cache}.
+ */
+final class MultiGetCaches {
+
+    private MultiGetCaches() {}
+
+    /**
+     * Read the entries of the given keys: a Hazelcast map reads them with one operation per member owning some keys,
+     * other caches read them one by one.
+     *
+     * @return the values of the keys that are in the cache, by key.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<Object, Object> getAll(Cache cache, Collection<?> keys) {
+        if (cache instanceof MultiGetCache multiGetCache) {
+            return multiGetCache.getAll(keys);
+        }
+        if (cache.getNativeCache() instanceof IMap<?, ?> map) {
+            return new HashMap<>(((IMap<Object, Object>) map).getAll(new HashSet<>(keys)));
+        }
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper value = cache.get(key);
+            if (value != null) {
+                values.put(key, value.get());
+            }
+        }
+        return values;
+    }
+}
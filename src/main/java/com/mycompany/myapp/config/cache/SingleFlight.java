@@ -0,0 +1,111 @@
+package com.mycompany.myapp.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.cache.Cache;
+
+/**
+ * Runs at most one load per key at a time: the callers asking for a key while it is being loaded wait for that load
+ * and share its result, instead of loading it again.
+ * <p>
+ * The requests are counted by {@code cache.loads}, tagged with {@code result=loaded} for the ones which ran their
+ * loader, and {@code result=coalesced} for the ones which waited for another caller's load.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    private final Counter loaded;
+
+    private final Counter coalesced;
+
+    public SingleFlight(MeterRegistry meterRegistry, Tags tags) {
+        this.loaded = Counter
+            .builder("cache.loads")
+            .tags(tags)
+            .tag("result", "loaded")
+            .description("The number of cache loads run")
+            .register(meterRegistry);
+        this.coalesced = Counter
+            .builder("cache.loads")
+            .tags(tags)
+            .tag("result", "coalesced")
+            .description("The number of cache loads served by a load already running for the same key")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Load the value of a key, or wait for the load of that key already running.
+     *
+     * @param key the key.
+     * @param loader loads the value of the key.
+     * @return the loaded value.
+     * @throws Cache.ValueRetrievalException if the loader threw a checked exception.
+     */
+    public Object load(Object key, Callable<?> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> runningCall = calls.putIfAbsent(key, call);
+        if (runningCall != null) {
+            coalesced.increment();
+            return join(runningCall);
+        }
+        loaded.increment();
+        return run(key, call, loader);
+    }
+
+    /**
+     * Load the value of a key, unless it is already being loaded.
+     *
+     * @param key the key.
+     * @param loader loads the value of the key.
+     * @return whether the loader was run.
+     * @throws Cache.ValueRetrievalException if the loader threw a checked exception.
+     */
+    public boolean tryLoad(Object key, Callable<?> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        if (calls.putIfAbsent(key, call) != null) {
+            return false;
+        }
+        loaded.increment();
+        run(key, call, loader);
+        return true;
+    }
+
+    private Object run(Object key, CompletableFuture<Object> call, Callable<?> loader) {
+        try {
+            Object value = loader.call();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } catch (Exception e) {
+            Cache.ValueRetrievalException exception = new Cache.ValueRetrievalException(key, loader, e);
+            call.completeExceptionally(exception);
+            throw exception;
+        } catch (Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // The calls are only completed with unchecked exceptions
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
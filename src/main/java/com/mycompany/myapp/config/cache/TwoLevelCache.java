@@ -0,0 +1,299 @@
+package com.mycompany.myapp.config.cache;
+
+import com.mycompany.myapp.service.cache.MultiGetCache;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+/**
+ * A {@link Cache} reading a local on-heap tier before a remote, cluster wide, tier.
+ * <p>
+ * Reads are served by the local tier when possible, and fill it from the remote tier otherwise. Writes go to the remote
+ * tier and are published through the invalidation publisher, so that the other cluster members drop their local copy.
+ * The local tier is bounded in size and time, which also bounds how long an entry can stay stale if an invalidation is
+ * lost.
+ * <p>
+ * The local tier hands out the cached instances themselves, not copies: the cached values must not be modified.
+ * <p>
+ * The values loaded by {@link #get(Object, Callable)} go through a {@link SingleFlight}, so that the concurrent misses of
+ * a key on this cluster member run a single load. When an {@link EarlyRefresh} is given, the hot entries are reloaded
+ * in the background shortly before they expire, so that they do not all miss at once.
+ */
+public class TwoLevelCache implements MultiGetCache {
+
+    private final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final Cache localCache;
+
+    private final Cache remoteCache;
+
+    private final Consumer<Object> invalidationPublisher;
+
+    private final SingleFlight singleFlight;
+
+    private final EarlyRefresh earlyRefresh;
+
+    private final Executor refreshExecutor;
+
+    // The keys whose refresh is submitted and not done yet
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    // Incremented on every change, so that a value read from the remote tier is not put in the local tier
+    // if the entry changed in the meantime
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * @param localCache the local tier.
+     * @param remoteCache the remote tier.
+     * @param invalidationPublisher publishes the changed keys to the other cluster members, {@code null} standing for
+     * the whole cache.
+     * @param singleFlight runs the loads of the values.
+     * @param earlyRefresh decides when to refresh the loaded values, or {@code null} to let them expire.
+     * @param refreshExecutor runs the early refreshes, required with an early refresh.
+     */
+    public TwoLevelCache(
+        Cache localCache,
+        Cache remoteCache,
+        Consumer<Object> invalidationPublisher,
+        SingleFlight singleFlight,
+        EarlyRefresh earlyRefresh,
+        Executor refreshExecutor
+    ) {
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlight = singleFlight;
+        this.earlyRefresh = earlyRefresh;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = localCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        long readVersion = version.get();
+        value = remoteCache.get(key);
+        if (value != null) {
+            putLocally(key, value.get(), readVersion);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Read an entry, or load it on a miss.
+     * <p>
+     * The concurrent misses of a key wait for a single load. A {@code null} value is returned but not cached. When the
+     * entry is due for an early refresh, the cached value is returned at once and the entry is reloaded by the refresh
+     * executor, unless it is already being loaded.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return (T) singleFlight.load(key, () -> load(key, valueLoader));
+        }
+        if (earlyRefresh != null && earlyRefresh.shouldRefresh(key)) {
+            refresh(key, valueLoader);
+        }
+        return (T) wrapper.get();
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) throws Exception {
+        long readVersion = version.get();
+        long start = earlyRefresh == null ? 0 : earlyRefresh.start();
+        Object value = valueLoader.call();
+        if (value == null) {
+            return null;
+        }
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing != null) {
+            value = existing.get();
+        } else if (earlyRefresh != null) {
+            earlyRefresh.loaded(key, start);
+        }
+        putLocally(key, value, readVersion);
+        return value;
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    reload(key, valueLoader);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("Cannot refresh the entry {} of cache {} now: {}", key, getName(), e.toString());
+        }
+    }
+
+    private void reload(Object key, Callable<?> valueLoader) {
+        try {
+            singleFlight.tryLoad(
+                key,
+                () -> {
+                    long readVersion = version.get();
+                    long start = earlyRefresh.start();
+                    Object value = valueLoader.call();
+                    if (value == null) {
+                        evict(key);
+                    } else if (version.get() == readVersion) {
+                        // Like a fill, nothing is published: the other cluster members can only hold the same value
+                        remoteCache.put(key, value);
+                        version.incrementAndGet();
+                        localCache.put(key, value);
+                        earlyRefresh.loaded(key, start);
+                    }
+                    return value;
+                }
+            );
+        } catch (RuntimeException e) {
+            // The cached value is still valid, the next readers will try again
+            log.warn("Cannot refresh the entry {} of cache {}: {}", key, getName(), e.toString());
+        }
+    }
+
+    /**
+     * Read the entries of the given keys from the local tier, then the missing ones from the remote tier at once.
+     */
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new HashMap<>();
+        List<Object> missingKeys = new ArrayList<>();
+        for (Object key : keys) {
+            ValueWrapper value = localCache.get(key);
+            if (value != null) {
+                values.put(key, value.get());
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            long readVersion = version.get();
+            Map<Object, Object> remoteValues = MultiGetCaches.getAll(remoteCache, missingKeys);
+            remoteValues.forEach((key, value) -> putLocally(key, value, readVersion));
+            values.putAll(remoteValues);
+        }
+        return values;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        invalidationPublisher.accept(key);
+        version.incrementAndGet();
+        localCache.put(key, value);
+        if (earlyRefresh != null) {
+            earlyRefresh.written(key);
+        }
+    }
+
+    /**
+     * Fill an entry that is not cached yet.
+     * <p>
+     * Nothing is published: the other cluster members can only have a local copy of an entry missing from the remote
+     * tier if it expired there, and that copy is up to date, as any change of the entry would have dropped it.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long readVersion = version.get();
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        putLocally(key, existing == null ? value : existing.get(), readVersion);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        invalidateLocally(key);
+        invalidationPublisher.accept(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        invalidateLocally(key);
+        invalidationPublisher.accept(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        invalidateLocally(null);
+        invalidationPublisher.accept(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        invalidateLocally(null);
+        invalidationPublisher.accept(null);
+        return invalidated;
+    }
+
+    /**
+     * Drop an entry from the local tier only, when it was changed by another cluster member.
+     *
+     * @param key the key of the entry, or {@code null} to drop all the entries.
+     */
+    public void invalidateLocally(Object key) {
+        version.incrementAndGet();
+        if (key == null) {
+            localCache.clear();
+        } else {
+            localCache.evict(key);
+        }
+        if (earlyRefresh != null) {
+            earlyRefresh.forget(key);
+        }
+    }
+
+    private void putLocally(Object key, Object value, long readVersion) {
+        if (value != null && version.get() == readVersion) {
+            localCache.put(key, value);
+        }
+    }
+}
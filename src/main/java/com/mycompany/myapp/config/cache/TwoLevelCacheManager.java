@@ -0,0 +1,114 @@
+package com.mycompany.myapp.config.cache;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * A {@link CacheManager} putting a local tier in front of each cache of a remote, Hazelcast backed, manager.
+ * <p>
+ * The changes are published on the {@value #INVALIDATION_TOPIC} Hazelcast topic, whose messages make the other cluster
+ * members drop the changed entries from their local tier. Both tiers are wrapped in {@link MeteredCache}, with a
+ * {@code tier} tag of {@code local} or {@code remote}, and their loads are counted by a {@link SingleFlight}.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_TOPIC = "cacheInvalidation";
+
+    private final CacheManager remoteCacheManager;
+
+    private final Function<String, Cache> localCacheFactory;
+
+    private final Function<String, EarlyRefresh> earlyRefreshFactory;
+
+    private final Executor refreshExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Tags tags;
+
+    private final ITopic<CacheInvalidation> invalidationTopic;
+
+    private final Member localMember;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param hazelcastInstance the Hazelcast instance carrying the invalidations.
+     * @param remoteCacheManager the manager of the remote tier.
+     * @param localCacheFactory creates the local tier of the cache of the given name.
+     * @param earlyRefreshFactory creates the early refresh of the cache of the given name, or returns {@code null} to
+     * let its entries expire.
+     * @param refreshExecutor runs the early refreshes of the entries.
+     * @param meterRegistry the registry of the cache meters.
+     * @param cacheManagerName the name of the manager, as tagged on the cache meters.
+     */
+    public TwoLevelCacheManager(
+        HazelcastInstance hazelcastInstance,
+        CacheManager remoteCacheManager,
+        Function<String, Cache> localCacheFactory,
+        Function<String, EarlyRefresh> earlyRefreshFactory,
+        Executor refreshExecutor,
+        MeterRegistry meterRegistry,
+        String cacheManagerName
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheFactory = localCacheFactory;
+        this.earlyRefreshFactory = earlyRefreshFactory;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.tags = Tags.of("cacheManager", cacheManagerName);
+        this.invalidationTopic = hazelcastInstance.getTopic(INVALIDATION_TOPIC);
+        this.localMember = hazelcastInstance.getCluster().getLocalMember();
+        this.invalidationTopic.addMessageListener(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        return remoteCache == null ? null : caches.computeIfAbsent(name, key -> createCache(remoteCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    void onInvalidation(Message<CacheInvalidation> message) {
+        // This member already dropped its local copy when it published the change
+        if (localMember.equals(message.getPublishingMember())) {
+            return;
+        }
+        CacheInvalidation invalidation = message.getMessageObject();
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.invalidateLocally(invalidation.key());
+        }
+    }
+
+    private TwoLevelCache createCache(Cache remoteCache) {
+        String name = remoteCache.getName();
+        return new TwoLevelCache(
+            new MeteredCache(localCacheFactory.apply(name), meterRegistry, tags.and("tier", "local")),
+            new MeteredCache(remoteCache, meterRegistry, tags.and("tier", "remote")),
+            key -> invalidationTopic.publish(new CacheInvalidation(name, key)),
+            new SingleFlight(meterRegistry, tags.and("cache", name)),
+            earlyRefreshFactory.apply(name),
+            refreshExecutor
+        );
+    }
+}
@@ -3,25 +3,37 @@ package com.mycompany.myapp.domain;
 import jakarta.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A CalendarDay.
  */
 @Entity
 @Table(name = "calendar_day")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class CalendarDay implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * MySQL has no sequences: Hibernate emulates {@code calendar_day_seq} with a table, which it updates on a second
+     * connection, outside of the transaction inserting the calendarDays.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendarDaySequenceGenerator")
+    @SequenceGenerator(name = "calendarDaySequenceGenerator", sequenceName = "calendar_day_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "date")
     private LocalDate date;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -50,6 +62,19 @@ public class CalendarDay implements Serializable {
         this.date = date;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public CalendarDay version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -75,6 +100,7 @@ public class CalendarDay implements Serializable {
         return "CalendarDay{" +
             "id=" + getId() +
             ", date='" + getDate() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,44 @@
+package com.mycompany.myapp.management.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a lookup of one or more keys in a tier of a cache.
+ */
+@Name("com.mycompany.myapp.CacheLookup")
+@Label("Cache Lookup")
+@Description("A lookup of one or more keys in a tier of a cache, including the load of a missing value")
+@Category({ "Webservicedayfinder", "Cache" })
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Tier")
+    String tier;
+
+    @Label("Keys")
+    int keys;
+
+    @Label("Hits")
+    int hits;
+
+    /**
+     * End the event and commit it, if it is recorded.
+     */
+    public void commit(String cache, String tier, int keys, int hits) {
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.tier = tier;
+            this.keys = keys;
+            this.hits = hits;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mycompany.myapp.management.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Management endpoint running Java Flight Recorder recordings on demand.
+ * <p>
+ * {@code POST /management/jfr} with optional {@code settings} ({@code default} or {@code profile}) and {@code duration}
+ * starts a recording, written to a file once it ends.
+ * {@code GET /management/jfr} lists the recordings, {@code GET /management/jfr/{id}} downloads a finished one,
+ * {@code POST /management/jfr/{id}} ends a recording early, and {@code DELETE /management/jfr/{id}} deletes it.
+ * <p>
+ * Only the last recordings are kept: starting a recording deletes the oldest finished one once the limit is reached.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "default";
+
+    private final Logger log = LoggerFactory.getLogger(JfrEndpoint.class);
+
+    private final Path directory;
+
+    private final Duration defaultDuration;
+
+    private final Duration maxDuration;
+
+    private final int maxRecordings;
+
+    private final NavigableMap<Long, Recording> recordings = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param directory the directory of the recording files.
+     * @param defaultDuration the duration of the recordings started without one.
+     * @param maxDuration the maximum duration of a recording.
+     * @param maxRecordings the maximum number of recordings kept.
+     */
+    public JfrEndpoint(Path directory, Duration defaultDuration, Duration maxDuration, int maxRecordings) {
+        this.directory = directory;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxRecordings = maxRecordings;
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return recordings.values().stream().map(RecordingDescriptor::of).toList();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource recording(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return null;
+        }
+        if (!isFinished(recording)) {
+            throw new InvalidEndpointRequestException("Recording " + id + " is still running", "Recording is still running");
+        }
+        return new FileSystemResource(recording.getDestination());
+    }
+
+    @WriteOperation
+    public synchronized RecordingDescriptor start(@Nullable String settings, @Nullable Duration duration) {
+        String settingsName = settings == null ? DEFAULT_SETTINGS : settings;
+        Duration recordingDuration = duration == null ? defaultDuration : duration;
+        if (recordingDuration.isNegative() || recordingDuration.isZero() || recordingDuration.compareTo(maxDuration) > 0) {
+            throw new InvalidEndpointRequestException(
+                "The duration must be positive and at most " + maxDuration + ": " + recordingDuration,
+                "Invalid duration"
+            );
+        }
+        Configuration configuration = configuration(settingsName);
+        makeRoom();
+        Recording recording = new Recording(configuration);
+        try {
+            Files.createDirectories(directory);
+            recording.setName("webservicedayfinder-" + settingsName);
+            recording.setToDisk(true);
+            recording.setDuration(recordingDuration);
+            recording.setDestination(directory.resolve("recording-" + recording.getId() + ".jfr"));
+            recording.start();
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        recordings.put(recording.getId(), recording);
+        log.info("Started JFR recording {} with the {} settings, for {}", recording.getId(), settingsName, recordingDuration);
+        return RecordingDescriptor.of(recording);
+    }
+
+    @WriteOperation
+    public RecordingDescriptor stop(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("Unknown recording " + id, "Unknown recording");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped JFR recording {}", id);
+        }
+        return RecordingDescriptor.of(recording);
+    }
+
+    @DeleteOperation
+    public synchronized void delete(@Selector long id) {
+        Recording recording = recordings.remove(id);
+        if (recording != null) {
+            close(recording);
+        }
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown recording settings: " + settings, "Unknown recording settings");
+        }
+    }
+
+    /**
+     * Delete the oldest finished recordings, until there is room for a new one.
+     */
+    private void makeRoom() {
+        for (Map.Entry<Long, Recording> entry : recordings.entrySet()) {
+            if (recordings.size() < maxRecordings) {
+                return;
+            }
+            if (isFinished(entry.getValue())) {
+                recordings.remove(entry.getKey());
+                close(entry.getValue());
+            }
+        }
+        if (recordings.size() >= maxRecordings) {
+            throw new InvalidEndpointRequestException(
+                "There are already " + recordings.size() + " recordings running",
+                "Too many recordings running"
+            );
+        }
+    }
+
+    private void close(Recording recording) {
+        recording.close();
+        try {
+            Files.deleteIfExists(recording.getDestination());
+        } catch (IOException e) {
+            log.warn("Cannot delete the JFR recording file {}: {}", recording.getDestination(), e.toString());
+        }
+    }
+
+    private static boolean isFinished(Recording recording) {
+        return recording.getState() == RecordingState.STOPPED || recording.getState() == RecordingState.CLOSED;
+    }
+
+    /**
+     * A recording, as listed by the endpoint.
+     *
+     * @param id the id of the recording.
+     * @param name the name of the recording.
+     * @param state the state of the recording, which can be downloaded once {@code STOPPED}.
+     * @param startTime when the recording started.
+     * @param duration the planned duration of the recording.
+     * @param size the size of the recording file, once written.
+     */
+    public record RecordingDescriptor(long id, String name, RecordingState state, Instant startTime, Duration duration, Long size) {
+        static RecordingDescriptor of(Recording recording) {
+            Long size = null;
+            if (isFinished(recording)) {
+                try {
+                    size = Files.size(recording.getDestination());
+                } catch (IOException e) {
+                    // The file was deleted
+                }
+            }
+            return new RecordingDescriptor(
+                recording.getId(),
+                recording.getName(),
+                recording.getState(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                size
+            );
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mycompany.myapp.management.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of the decoding of a JWT, served by the cache of the verified tokens or verified.
+ */
+@Name("com.mycompany.myapp.JwtVerification")
+@Label("JWT Verification")
+@Description("The decoding of a JWT, from the cache of the verified tokens or verified")
+@Category({ "Webservicedayfinder", "Security" })
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Cached")
+    @Description("Whether the token was already verified")
+    boolean cached;
+
+    @Label("Failure")
+    @Description("The class of the exception rejecting the token, if any")
+    String failure;
+
+    /**
+     * End the event and commit it, if it is recorded.
+     */
+    public void commit(boolean cached, String failure) {
+        if (shouldCommit()) {
+            this.cached = cached;
+            this.failure = failure;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycompany.myapp.management.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a call of a service method, recorded by the {@link ServiceMethodEventInterceptor}.
+ */
+@Name("com.mycompany.myapp.ServiceMethod")
+@Label("Service Method")
+@Description("A call of a service method")
+@Category({ "Webservicedayfinder", "Service" })
+public class ServiceMethodEvent extends Event {
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Exception")
+    @Description("The class of the exception thrown by the method, if any")
+    String exception;
+
+    /**
+     * End the event and commit it, if it is recorded.
+     */
+    public void commit(String className, String methodName, String exception) {
+        if (shouldCommit()) {
+            this.className = className;
+            this.methodName = methodName;
+            this.exception = exception;
+            commit();
+        }
+    }
+}
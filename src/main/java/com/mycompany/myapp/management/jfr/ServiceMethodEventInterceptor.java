@@ -0,0 +1,38 @@
+package com.mycompany.myapp.management.jfr;
+
+import jdk.jfr.EventType;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Interceptor recording the calls of methods as {@link ServiceMethodEvent}s.
+ * <p>
+ * While no Flight Recorder recording enables the event, a call only costs the check of {@link EventType#isEnabled()},
+ * and no event is allocated.
+ */
+public class ServiceMethodEventInterceptor implements MethodInterceptor {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(ServiceMethodEvent.class);
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!EVENT_TYPE.isEnabled()) {
+            return invocation.proceed();
+        }
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        String exception = null;
+        event.begin();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getName();
+            throw e;
+        } finally {
+            Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+            event.commit(targetClass.getName(), invocation.getMethod().getName(), exception);
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.CalendarDay;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +17,66 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CalendarDayRepository extends JpaRepository<CalendarDay, Long> {}
+public interface CalendarDayRepository extends JpaRepository<CalendarDay, Long>, CalendarDayRepositoryWithDateUpdate {
+    /**
+     * Name of the query cache region of the date range reads.
+     */
+    String CALENDAR_DAYS_BY_DATE_CACHE = "calendarDaysByDate";
+
+    /**
+     * Keyset read on {@code id}: the rows following the given id.
+     */
+    List<CalendarDay> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Keyset read on {@code (date, id)} within the rows that have no date, which come first in ascending date order.
+     */
+    List<CalendarDay> findByDateIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Keyset read on {@code (date, id)}: the first rows that have a date.
+     */
+    List<CalendarDay> findByDateIsNotNullOrderByDateAscIdAsc(Pageable pageable);
+
+    /**
+     * Keyset read on {@code (date, id)}: the rows following the given {@code (date, id)} pair.
+     */
+    @Query(
+        "select calendarDay from CalendarDay calendarDay" +
+        " where calendarDay.date > :date or (calendarDay.date = :date and calendarDay.id > :id)" +
+        " order by calendarDay.date asc, calendarDay.id asc"
+    )
+    List<CalendarDay> findAllAfterDateAndId(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Range read on {@code date}, both bounds included, served by the {@code idx_calendar_day_date} index.
+     * <p>
+     * The results are kept in the query cache, which Hibernate invalidates on any write to the table.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CALENDAR_DAYS_BY_DATE_CACHE),
+        }
+    )
+    Page<CalendarDay> findByDateBetween(LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Stream all the rows in {@code id} order.
+     * <p>
+     * A fetch size of {@link Integer#MIN_VALUE} makes the MySQL driver stream the result set row by row instead of
+     * buffering it entirely. The stream must be consumed and closed within a transaction, and no other statement can be
+     * run on the connection until it is closed. The streamed rows are not put in the second level cache, where they
+     * would each cost a round trip to the cluster and evict the hot entries.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select calendarDay from CalendarDay calendarDay order by calendarDay.id asc")
+    Stream<CalendarDay> streamAllOrderedById();
+}
@@ -0,0 +1,19 @@
+package com.mycompany.myapp.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Single statement updates of the date of calendarDays, which only evict the updated entity from the second level cache.
+ */
+public interface CalendarDayRepositoryWithDateUpdate {
+    /**
+     * Update the date of a row in a single statement, without reading it first, and increment its version.
+     * <p>
+     * The MySQL driver reports the matched rows, not only the changed ones, so setting the same date still counts the row.
+     * The persistence context is flushed before the statement and cleared after it.
+     *
+     * @param version the version the row must have, or {@code null} to update any version.
+     * @return the number of updated rows: 0 if there is no row with this id, or if it does not have the given version.
+     */
+    int updateDate(Long id, LocalDate date, Long version);
+}
@@ -0,0 +1,53 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.CalendarDay;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * A bulk statement synchronized on the {@code calendar_day} table would evict the whole {@code CalendarDay} region of the
+ * second level cache, cluster wide. The statement is therefore synchronized on a query space of its own, and does what
+ * Hibernate does for the update of a single entity: the cached results of the queries on {@code calendar_day} are
+ * invalidated, and the updated entity is evicted right away, so that it is read again from the database by this
+ * transaction, and once more when the transaction completes, in case another one cached the old row meanwhile.
+ */
+public class CalendarDayRepositoryWithDateUpdateImpl implements CalendarDayRepositoryWithDateUpdate {
+
+    private static final String[] CALENDAR_DAY_SPACES = { "calendar_day" };
+
+    private static final String DATE_UPDATE_SPACE = "calendar_day_date_update";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateDate(Long id, LocalDate date, Long version) {
+        entityManager.flush();
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+        timestampsCache.preInvalidate(CALENDAR_DAY_SPACES, session);
+        int updated = session
+            .createNativeMutationQuery(
+                "update calendar_day set date = :date, version = version + 1" +
+                " where id = :id and (:version is null or version = :version)"
+            )
+            .setHint(HibernateHints.HINT_NATIVE_SPACES, DATE_UPDATE_SPACE)
+            .setParameter("id", id)
+            .setParameter("date", date)
+            .setParameter("version", version)
+            .executeUpdate();
+        session.getFactory().getCache().evictEntityData(CalendarDay.class, id);
+        session
+            .getActionQueue()
+            .registerProcess((success, completedSession) -> {
+                timestampsCache.invalidate(CALENDAR_DAY_SPACES, completedSession);
+                completedSession.getFactory().getCache().evictEntityData(CalendarDay.class, id);
+            });
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -0,0 +1,173 @@
+package com.mycompany.myapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.management.jfr.JwtVerificationEvent;
+import com.nimbusds.jose.proc.BadJWSException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import jdk.jfr.EventType;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+/**
+ * A {@link JwtDecoder} remembering the tokens it already verified, so that a token presented again is not parsed and
+ * verified again until it expires.
+ * <p>
+ * The tokens are looked up by their SHA-256 digest, so that the cache does not hold the tokens themselves. Only the
+ * valid tokens with an expiry are cached, and the invalid ones are counted by cause in the {@link SecurityMetersService}.
+ * Each decoding is recorded as a {@link JwtVerificationEvent}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final MessageDigest SHA_256 = sha256();
+
+    private static final EventType VERIFICATION_EVENT_TYPE = EventType.getEventType(JwtVerificationEvent.class);
+
+    private final JwtDecoder jwtDecoder;
+
+    private final SecurityMetersService metersService;
+
+    private final Cache<ByteBuffer, Jwt> verifiedTokens;
+
+    /**
+     * @param jwtDecoder the decoder verifying the tokens, whose only validator checks their timestamps.
+     * @param metersService the meters of the token verifications.
+     * @param maximumSize the maximum number of verified tokens kept, {@code 0} to verify every token.
+     */
+    public CachingJwtDecoder(JwtDecoder jwtDecoder, SecurityMetersService metersService, long maximumSize) {
+        this.jwtDecoder = jwtDecoder;
+        this.metersService = metersService;
+        this.verifiedTokens = Caffeine
+            .newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        JwtVerificationEvent event = beginVerification();
+        ByteBuffer digest = digest(token);
+        Jwt jwt = verifiedTokens.getIfPresent(digest);
+        if (jwt != null) {
+            metersService.trackTokenCacheHit();
+            commit(event, true, null);
+            return jwt;
+        }
+        metersService.trackTokenCacheMiss();
+        try {
+            jwt = verify(token);
+        } catch (JwtException e) {
+            commit(event, false, e.getClass().getName());
+            throw e;
+        }
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null && expiresAt.isAfter(Instant.now())) {
+            verifiedTokens.put(digest, jwt);
+        }
+        commit(event, false, null);
+        return jwt;
+    }
+
+    /**
+     * @return the begun event, or {@code null} when no recording enables it, so that the decodings allocate nothing.
+     */
+    private static JwtVerificationEvent beginVerification() {
+        if (!VERIFICATION_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commit(JwtVerificationEvent event, boolean cached, String failure) {
+        if (event != null) {
+            event.commit(cached, failure);
+        }
+    }
+
+    private Jwt verify(String token) {
+        long start = System.nanoTime();
+        try {
+            return jwtDecoder.decode(token);
+        } catch (JwtValidationException e) {
+            if (isExpired(e)) {
+                metersService.trackTokenExpired();
+            } else {
+                metersService.trackTokenUnsupported();
+            }
+            throw e;
+        } catch (BadJwtException e) {
+            if (e.getCause() instanceof ParseException) {
+                metersService.trackTokenMalformed();
+            } else if (e.getCause() instanceof BadJWSException) {
+                metersService.trackTokenInvalidSignature();
+            } else {
+                metersService.trackTokenUnsupported();
+            }
+            throw e;
+        } finally {
+            metersService.trackTokenVerification(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean isExpired(JwtValidationException e) {
+        return e
+            .getErrors()
+            .stream()
+            .anyMatch(error -> error.getDescription() != null && error.getDescription().contains("Jwt expired at"));
+    }
+
+    /**
+     * A verified token is kept until it expires.
+     */
+    private final class TokenExpiry implements Expiry<ByteBuffer, Jwt> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer digest, Jwt jwt, long currentTime) {
+            return Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer digest, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer digest, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * The digests are cloned from a prototype, which is cheaper than looking up the provider of the algorithm.
+     */
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest digest = (MessageDigest) SHA_256.clone();
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digests cannot be cloned", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -2,16 +2,51 @@ package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.CalendarDay;
 import com.mycompany.myapp.repository.CalendarDayRepository;
+import com.mycompany.myapp.service.batch.BatchLoader;
+import com.mycompany.myapp.service.cache.MultiGetCache;
+import com.mycompany.myapp.service.dto.CalendarDayCursor;
 import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import com.mycompany.myapp.service.dto.CalendarDayWindow;
 import com.mycompany.myapp.service.mapper.CalendarDayMapper;
-import java.util.LinkedList;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.SpecHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service Implementation for managing {@link com.mycompany.myapp.domain.CalendarDay}.
@@ -22,13 +57,42 @@ public class CalendarDayService {
 
     private final Logger log = LoggerFactory.getLogger(CalendarDayService.class);
 
+    /**
+     * Name of the cache of the calendarDays by id.
+     */
+    public static final String CALENDAR_DAY_CACHE = "calendarDay";
+
+    /**
+     * Number of entities inserted per transaction by {@link #saveAll(Iterator)}.
+     */
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final CalendarDayRepository calendarDayRepository;
 
     private final CalendarDayMapper calendarDayMapper;
 
-    public CalendarDayService(CalendarDayRepository calendarDayRepository, CalendarDayMapper calendarDayMapper) {
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final CacheManager cacheManager;
+
+    private final BatchLoader<Long, CalendarDayDTO> calendarDayLoader;
+
+    public CalendarDayService(
+        CalendarDayRepository calendarDayRepository,
+        CalendarDayMapper calendarDayMapper,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        CacheManager cacheManager,
+        ObjectProvider<BatchLoader<Long, CalendarDayDTO>> calendarDayLoader
+    ) {
         this.calendarDayRepository = calendarDayRepository;
         this.calendarDayMapper = calendarDayMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.calendarDayLoader = calendarDayLoader.getIfAvailable();
     }
 
     /**
@@ -37,6 +101,7 @@ public class CalendarDayService {
      * @param calendarDayDTO the entity to save.
      * @return the persisted entity.
      */
+    @CachePut(cacheNames = CALENDAR_DAY_CACHE, key = "#result.id")
     public CalendarDayDTO save(CalendarDayDTO calendarDayDTO) {
         log.debug("Request to save CalendarDay : {}", calendarDayDTO);
         CalendarDay calendarDay = calendarDayMapper.toEntity(calendarDayDTO);
@@ -44,67 +109,255 @@ public class CalendarDayService {
         return calendarDayMapper.toDto(calendarDay);
     }
 
+    /**
+     * Save calendarDays in bulk.
+     * <p>
+     * The entities are inserted in JDBC batches and committed every {@value #BULK_CHUNK_SIZE} entities, so the
+     * persistence context never holds more than one chunk. The DTOs are pulled lazily from the iterator, which can
+     * therefore stream them from the request: when it fails, the chunks already committed are kept. The inserted
+     * entities bypass the second level cache, which would otherwise be filled, one round trip each, with cold entries.
+     *
+     * @param calendarDayDTOs the entities to save, which must not have an id.
+     * @return the number of persisted entities.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long saveAll(Iterator<CalendarDayDTO> calendarDayDTOs) {
+        log.debug("Request to save CalendarDays in bulk");
+        long count = 0;
+        List<CalendarDay> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        while (calendarDayDTOs.hasNext()) {
+            chunk.add(calendarDayMapper.toEntity(calendarDayDTOs.next()));
+            if (chunk.size() == BULK_CHUNK_SIZE || !calendarDayDTOs.hasNext()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+                    chunk.forEach(entityManager::persist);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                count += chunk.size();
+                chunk.clear();
+            }
+        }
+        log.debug("Saved {} CalendarDays in bulk", count);
+        return count;
+    }
+
     /**
      * Update a calendarDay.
+     * <p>
+     * The calendarDay is updated by a single statement, without being read first, when its version is given. Otherwise
+     * it is read after the update, to know its new version.
      *
-     * @param calendarDayDTO the entity to save.
-     * @return the persisted entity.
+     * @param calendarDayDTO the entity to save, whose version, if any, must be the current one.
+     * @return the persisted entity, or empty if there is no calendarDay with this id.
+     * @throws ObjectOptimisticLockingFailureException if the calendarDay does not have the given version.
      */
-    public CalendarDayDTO update(CalendarDayDTO calendarDayDTO) {
+    @CachePut(cacheNames = CALENDAR_DAY_CACHE, key = "#calendarDayDTO.id", unless = "#result == null")
+    public Optional<CalendarDayDTO> update(CalendarDayDTO calendarDayDTO) {
         log.debug("Request to update CalendarDay : {}", calendarDayDTO);
-        CalendarDay calendarDay = calendarDayMapper.toEntity(calendarDayDTO);
-        calendarDay = calendarDayRepository.save(calendarDay);
-        return calendarDayMapper.toDto(calendarDay);
+        return updateDate(calendarDayDTO);
     }
 
     /**
      * Partially update a calendarDay.
+     * <p>
+     * The calendarDay is updated by a single statement, without being read first, when its version is given. It is only
+     * read when there is no field to update, or to know its new version.
      *
-     * @param calendarDayDTO the entity to update partially.
-     * @return the persisted entity.
+     * @param calendarDayDTO the entity to update partially, whose version, if any, must be the current one.
+     * @return the persisted entity, or empty if there is no calendarDay with this id.
+     * @throws ObjectOptimisticLockingFailureException if the calendarDay does not have the given version.
      */
+    @CachePut(cacheNames = CALENDAR_DAY_CACHE, key = "#calendarDayDTO.id", unless = "#result == null")
     public Optional<CalendarDayDTO> partialUpdate(CalendarDayDTO calendarDayDTO) {
         log.debug("Request to partially update CalendarDay : {}", calendarDayDTO);
-
-        return calendarDayRepository
+        if (calendarDayDTO.getDate() != null) {
+            return updateDate(calendarDayDTO);
+        }
+        Optional<CalendarDayDTO> existingCalendarDayDTO = calendarDayRepository
             .findById(calendarDayDTO.getId())
-            .map(existingCalendarDay -> {
-                calendarDayMapper.partialUpdate(existingCalendarDay, calendarDayDTO);
-
-                return existingCalendarDay;
-            })
-            .map(calendarDayRepository::save)
             .map(calendarDayMapper::toDto);
+        Long version = calendarDayDTO.getVersion();
+        if (version != null && existingCalendarDayDTO.isPresent() && !version.equals(existingCalendarDayDTO.get().getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(CalendarDay.class, calendarDayDTO.getId());
+        }
+        return existingCalendarDayDTO;
+    }
+
+    private Optional<CalendarDayDTO> updateDate(CalendarDayDTO calendarDayDTO) {
+        Long version = calendarDayDTO.getVersion();
+        if (calendarDayRepository.updateDate(calendarDayDTO.getId(), calendarDayDTO.getDate(), version) == 0) {
+            // Only look for the cause when the update failed
+            if (version != null && calendarDayRepository.existsById(calendarDayDTO.getId())) {
+                throw new ObjectOptimisticLockingFailureException(CalendarDay.class, calendarDayDTO.getId());
+            }
+            return Optional.empty();
+        }
+        if (version == null) {
+            return calendarDayRepository.findById(calendarDayDTO.getId()).map(calendarDayMapper::toDto);
+        }
+        calendarDayDTO.setVersion(version + 1);
+        return Optional.of(calendarDayDTO);
     }
 
     /**
-     * Get all the calendarDays.
+     * Get a window of calendarDays, seeking past the given cursor.
      *
-     * @return the list of entities.
+     * @param cursor the cursor to read after.
+     * @param size the maximum number of entities to return.
+     * @return the window of entities.
      */
     @Transactional(readOnly = true)
-    public List<CalendarDayDTO> findAll() {
-        log.debug("Request to get all CalendarDays");
-        return calendarDayRepository.findAll().stream().map(calendarDayMapper::toDto).collect(Collectors.toCollection(LinkedList::new));
+    public CalendarDayWindow findAll(CalendarDayCursor cursor, int size) {
+        log.debug("Request to get CalendarDays after : {}", cursor);
+        // Read one row more than requested to know whether there is a next page
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<CalendarDay> calendarDays;
+        if (cursor.getOrder() == CalendarDayCursor.Order.ID) {
+            calendarDays = calendarDayRepository.findByIdGreaterThanOrderByIdAsc(seekId(cursor), limit);
+        } else if (cursor.getDate() == null) {
+            // Rows without a date come first, then the dated rows are read from their start
+            calendarDays = new ArrayList<>(calendarDayRepository.findByDateIsNullAndIdGreaterThanOrderByIdAsc(seekId(cursor), limit));
+            if (calendarDays.size() <= size) {
+                calendarDays.addAll(
+                    calendarDayRepository.findByDateIsNotNullOrderByDateAscIdAsc(PageRequest.ofSize(size + 1 - calendarDays.size()))
+                );
+            }
+        } else {
+            calendarDays = calendarDayRepository.findAllAfterDateAndId(cursor.getDate(), cursor.getId(), limit);
+        }
+
+        List<CalendarDayDTO> content = calendarDayMapper.toDto(calendarDays.size() > size ? calendarDays.subList(0, size) : calendarDays);
+        CalendarDayCursor next = calendarDays.size() > size ? CalendarDayCursor.after(cursor.getOrder(), content.get(size - 1)) : null;
+        return new CalendarDayWindow(content, next);
+    }
+
+    /**
+     * Get a page of the calendarDays whose date is within the given range.
+     *
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<CalendarDayDTO> findAllByDateBetween(LocalDate from, LocalDate to, Pageable pageable) {
+        log.debug("Request to get CalendarDays between {} and {}", from, to);
+        return calendarDayRepository.findByDateBetween(from, to, pageable).map(calendarDayMapper::toDto);
+    }
+
+    /**
+     * Stream all the calendarDays, in id order, to the given consumer.
+     * <p>
+     * Entities are read from a streamed result set and detached as soon as they are mapped, so memory use does not depend
+     * on the size of the table.
+     *
+     * @param consumer the consumer of the entities.
+     * @return the number of entities streamed.
+     */
+    @Transactional(readOnly = true)
+    public long streamAll(Consumer<CalendarDayDTO> consumer) {
+        log.debug("Request to stream all CalendarDays");
+        long count = 0;
+        try (Stream<CalendarDay> calendarDays = calendarDayRepository.streamAllOrderedById()) {
+            Iterator<CalendarDay> iterator = calendarDays.iterator();
+            while (iterator.hasNext()) {
+                CalendarDay calendarDay = iterator.next();
+                consumer.accept(calendarDayMapper.toDto(calendarDay));
+                entityManager.detach(calendarDay);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Long seekId(CalendarDayCursor cursor) {
+        return cursor.isFirst() ? Long.MIN_VALUE : cursor.getId();
     }
 
     /**
      * Get one calendarDay by id.
+     * <p>
+     * The calendarDays are cached, and a cache hit does not start any transaction. The concurrent cache misses of an id
+     * wait for a single read, and the hot calendarDays are read again shortly before they expire from the cache. When the
+     * calendarDay loader is enabled, the cache misses of concurrent requests for different ids are read together by the
+     * loader threads, outside of the caller's transaction.
      *
      * @param id the id of the entity.
      * @return the entity.
      */
-    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CALENDAR_DAY_CACHE, key = "#id", sync = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<CalendarDayDTO> findOne(Long id) {
         log.debug("Request to get CalendarDay : {}", id);
+        if (calendarDayLoader != null) {
+            try {
+                return Optional.ofNullable(calendarDayLoader.load(id).join());
+            } catch (CompletionException e) {
+                throw loadFailure(id, e.getCause());
+            }
+        }
         return calendarDayRepository.findById(id).map(calendarDayMapper::toDto);
     }
 
+    private static DataAccessException loadFailure(Long id, Throwable cause) {
+        if (cause instanceof DataAccessException dataAccessException) {
+            return dataAccessException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new QueryTimeoutException("Timed out loading CalendarDay " + id, cause);
+        }
+        return new DataRetrievalFailureException("Failed to load CalendarDay " + id, cause);
+    }
+
+    /**
+     * Get the calendarDays of the given ids.
+     * <p>
+     * The calendarDays are first read from the cache all at once, then the missing ones are read from the database by a
+     * single query, and cached.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, in the order of their ids, without duplicates.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CalendarDayDTO> findAllByIds(Collection<Long> ids) {
+        log.debug("Request to get CalendarDays : {}", ids);
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Cache cache = cacheManager.getCache(CALENDAR_DAY_CACHE);
+        Map<Object, Object> calendarDayDTOs = getAll(cache, distinctIds);
+        List<Long> missingIds = distinctIds.stream().filter(id -> !calendarDayDTOs.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            for (CalendarDay calendarDay : calendarDayRepository.findAllById(missingIds)) {
+                CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
+                cache.putIfAbsent(calendarDayDTO.getId(), calendarDayDTO);
+                calendarDayDTOs.put(calendarDayDTO.getId(), calendarDayDTO);
+            }
+        }
+        return distinctIds.stream().map(id -> (CalendarDayDTO) calendarDayDTOs.get(id)).filter(Objects::nonNull).toList();
+    }
+
+    private static Map<Object, Object> getAll(Cache cache, Collection<Long> ids) {
+        // Reads are not deferred to the end of the transaction, so they can skip the decorator
+        Cache targetCache = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        if (targetCache instanceof MultiGetCache multiGetCache) {
+            return multiGetCache.getAll(ids);
+        }
+        Map<Object, Object> values = new HashMap<>();
+        for (Long id : ids) {
+            Cache.ValueWrapper value = targetCache.get(id);
+            if (value != null) {
+                values.put(id, value.get());
+            }
+        }
+        return values;
+    }
+
     /**
      * Delete the calendarDay by id.
      *
      * @param id the id of the entity.
      */
+    @CacheEvict(cacheNames = CALENDAR_DAY_CACHE, key = "#id")
     public void delete(Long id) {
         log.debug("Request to delete CalendarDay : {}", id);
         calendarDayRepository.deleteById(id);
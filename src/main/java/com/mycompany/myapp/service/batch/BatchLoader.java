@@ -0,0 +1,154 @@
+package com.mycompany.myapp.service.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the keys requested concurrently, and loads them with a single call of a batch function.
+ * <p>
+ * A batch is dispatched when its first key has waited for the window, or as soon as it holds the maximum number of keys.
+ * The values not loaded within the timeout complete with a {@link java.util.concurrent.TimeoutException}. The batch sizes
+ * are reported by the {@code batch.loader.size} distribution summary.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class BatchLoader<K, V> implements AutoCloseable {
+
+    private final Logger log = LoggerFactory.getLogger(BatchLoader.class);
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final long timeoutNanos;
+
+    private final ScheduledExecutorService executor;
+
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+
+    private List<Request<K, V>> requests = new ArrayList<>();
+
+    private ScheduledFuture<?> scheduledDispatch;
+
+    /**
+     * @param name the name of the loader, as tagged on its meters.
+     * @param batchFunction loads the values of a batch of keys, leaving out the keys that have no value.
+     * @param window how long the first key of a batch waits for other keys.
+     * @param maxBatchSize the maximum number of keys of a batch.
+     * @param timeout how long a key waits for its value, window included.
+     * @param executor runs the batch function, and is shut down with the loader.
+     * @param meterRegistry the registry of the meters.
+     */
+    public BatchLoader(
+        String name,
+        Function<Set<K>, Map<K, V>> batchFunction,
+        Duration window,
+        int maxBatchSize,
+        Duration timeout,
+        ScheduledExecutorService executor,
+        MeterRegistry meterRegistry
+    ) {
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutNanos = timeout.toNanos();
+        this.executor = executor;
+        this.batchSizes = DistributionSummary
+            .builder("batch.loader.size")
+            .tag("name", name)
+            .description("The number of distinct keys loaded by each batch")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(1.0)
+            .maximumExpectedValue((double) maxBatchSize)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Load the value of a key with the next batch.
+     *
+     * @param key the key.
+     * @return the value, completed with {@code null} if the key has no value, or exceptionally once the timeout elapsed.
+     */
+    public CompletableFuture<V> load(K key) {
+        Request<K, V> request = new Request<>(key, new CompletableFuture<V>().orTimeout(timeoutNanos, TimeUnit.NANOSECONDS));
+        List<Request<K, V>> fullBatch = null;
+        synchronized (lock) {
+            requests.add(request);
+            if (requests.size() >= maxBatchSize) {
+                fullBatch = takeBatch();
+            } else if (requests.size() == 1) {
+                scheduledDispatch = executor.schedule(this::dispatchWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            List<Request<K, V>> batch = fullBatch;
+            executor.execute(() -> dispatch(batch));
+        }
+        return request.value();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void dispatchWindow() {
+        List<Request<K, V>> batch;
+        synchronized (lock) {
+            batch = takeBatch();
+        }
+        dispatch(batch);
+    }
+
+    private List<Request<K, V>> takeBatch() {
+        List<Request<K, V>> batch = requests;
+        requests = new ArrayList<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Request<K, V>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<K> keys = new LinkedHashSet<>();
+        for (Request<K, V> request : batch) {
+            keys.add(request.key());
+        }
+        batchSizes.record(keys.size());
+        try {
+            Map<K, V> values = batchFunction.apply(keys);
+            for (Request<K, V> request : batch) {
+                request.value().complete(values.get(request.key()));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failed to load a batch of {} keys", keys.size(), e);
+            for (Request<K, V> request : batch) {
+                request.value().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record Request<K, V>(K key, CompletableFuture<V> value) {}
+}
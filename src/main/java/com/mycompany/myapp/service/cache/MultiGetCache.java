@@ -0,0 +1,18 @@
+package com.mycompany.myapp.service.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.cache.Cache;
+
+/**
+ * A {@link Cache} reading many entries at once, in fewer round trips than one {@link Cache#get(Object)} per key.
+ */
+public interface MultiGetCache extends Cache {
+    /**
+     * Read the entries of the given keys.
+     *
+     * @param keys the keys to read.
+     * @return the values of the keys that are in the cache, by key.
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+}
@@ -0,0 +1,154 @@
+package com.mycompany.myapp.service.datagen;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the {@code calendar_day} table with generated rows, to measure the queries on a realistic volume of data.
+ * <p>
+ * The ids are reserved at once from the {@code calendar_day_seq} table, so that the calendarDays created afterwards by
+ * Hibernate follow the generated ones. The rows are then written by JDBC batches, each committed on its own, which the
+ * MySQL driver sends as multi-row inserts with {@code rewriteBatchedStatements}. The progress and the throughput are
+ * logged as the batches are written.
+ * <p>
+ * The rows are written behind Hibernate's back: its query cache may still hold the results of date ranges read before.
+ */
+public class CalendarDayDatasetGenerator {
+
+    /**
+     * The allocation size of the {@code calendarDaySequenceGenerator} of {@link com.mycompany.myapp.domain.CalendarDay}.
+     */
+    static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private static final String INSERT = "insert into calendar_day (id, date, version) values (?, ?, 0)";
+
+    private final Logger log = LoggerFactory.getLogger(CalendarDayDatasetGenerator.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final Duration reportInterval;
+
+    /**
+     * @param jdbcTemplate writes the rows.
+     * @param transactionTemplate commits the reservation of the ids, and each batch.
+     * @param batchSize the number of rows written and committed together.
+     * @param reportInterval how often the progress is logged.
+     */
+    public CalendarDayDatasetGenerator(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        int batchSize,
+        Duration reportInterval
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive, not " + batchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.reportInterval = reportInterval;
+    }
+
+    /**
+     * Generate calendarDays.
+     *
+     * @param rows the number of calendarDays to generate.
+     * @param sampler draws their dates.
+     * @return the ids and the throughput of the generation.
+     */
+    public Result generate(long rows, DateSampler sampler) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("The number of rows must be positive, not " + rows);
+        }
+        long firstId = reserveIds(rows);
+        log.info("Generating {} calendarDays, from id {}, by batches of {}", rows, firstId, batchSize);
+        long start = System.nanoTime();
+        long nextReport = start + reportInterval.toNanos();
+        long written = 0;
+        while (written < rows) {
+            int size = (int) Math.min(batchSize, rows - written);
+            Batch batch = new Batch(firstId + written, size, sampler);
+            // The pool does not auto-commit: a batch written outside of a transaction would be rolled back
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, batch));
+            written += size;
+            long now = System.nanoTime();
+            if (now >= nextReport && written < rows) {
+                log.info("Generated {} of {} calendarDays, {} rows/s", written, rows, rowsPerSecond(written, now - start));
+                nextReport = now + reportInterval.toNanos();
+            }
+        }
+        Result result = new Result(firstId, firstId + rows - 1, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Generated {} calendarDays in {}, {} rows/s", rows, result.elapsed(), result.rowsPerSecond());
+        return result;
+    }
+
+    /**
+     * Reserve a block of ids, as Hibernate's pooled optimizer would: reading {@code next_val} hands out the ids from
+     * {@code next_val - allocationSize + 1}, and the following read starts after the ones reserved here.
+     */
+    private long reserveIds(long rows) {
+        Long nextVal = transactionTemplate.execute(status -> {
+            Long value = jdbcTemplate.queryForObject("select next_val from calendar_day_seq for update", Long.class);
+            jdbcTemplate.update("update calendar_day_seq set next_val = ?", value + rows);
+            return value;
+        });
+        return nextVal - SEQUENCE_ALLOCATION_SIZE + 1;
+    }
+
+    private static long rowsPerSecond(long rows, long nanos) {
+        return nanos == 0 ? rows : rows * 1_000_000_000L / nanos;
+    }
+
+    /**
+     * The outcome of a generation.
+     *
+     * @param firstId the id of the first calendarDay generated.
+     * @param lastId the id of the last calendarDay generated.
+     * @param elapsed how long it took to write them.
+     */
+    public record Result(long firstId, long lastId, Duration elapsed) {
+        public long rows() {
+            return lastId - firstId + 1;
+        }
+
+        public long rowsPerSecond() {
+            return CalendarDayDatasetGenerator.rowsPerSecond(rows(), elapsed.toNanos());
+        }
+    }
+
+    private static class Batch implements BatchPreparedStatementSetter {
+
+        private final long firstId;
+
+        private final int size;
+
+        private final DateSampler sampler;
+
+        Batch(long firstId, int size, DateSampler sampler) {
+            this.firstId = firstId;
+            this.size = size;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ps.setLong(1, firstId + i);
+            ps.setObject(2, sampler.next());
+        }
+
+        @Override
+        public int getBatchSize() {
+            return size;
+        }
+    }
+}
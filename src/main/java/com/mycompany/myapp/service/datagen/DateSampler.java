@@ -0,0 +1,92 @@
+package com.mycompany.myapp.service.datagen;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Draws the dates of generated calendarDays, between two dates and with one of the {@link Distribution}s.
+ * <p>
+ * A sampler is not thread-safe, and draws the same dates for the same seed.
+ */
+public class DateSampler {
+
+    public enum Distribution {
+        /**
+         * Every date of the range is as likely.
+         */
+        UNIFORM,
+        /**
+         * The later dates of the range are the likeliest: the density grows with the position in the range raised to
+         * {@code skew - 1}, a skew of 1 being uniform.
+         */
+        SKEWED,
+        /**
+         * A few distinct dates of the range, drawn once, each of them repeated by many rows.
+         */
+        DUPLICATED,
+    }
+
+    private final Distribution distribution;
+
+    private final long fromEpochDay;
+
+    private final long days;
+
+    private final double inverseSkew;
+
+    private final long[] distinctEpochDays;
+
+    private final SplittableRandom random;
+
+    /**
+     * @param distribution the distribution of the dates.
+     * @param from the first date of the range.
+     * @param to the last date of the range, included.
+     * @param skew the exponent of the {@link Distribution#SKEWED} distribution, at least 1.
+     * @param distinctDates the number of dates of the {@link Distribution#DUPLICATED} distribution.
+     * @param seed the seed of the random draws.
+     */
+    public DateSampler(Distribution distribution, LocalDate from, LocalDate to, double skew, int distinctDates, long seed) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The range ends on " + to + ", before its start on " + from);
+        }
+        if (skew < 1.0) {
+            throw new IllegalArgumentException("The skew must be at least 1, not " + skew);
+        }
+        if (distinctDates < 1) {
+            throw new IllegalArgumentException("The number of distinct dates must be positive, not " + distinctDates);
+        }
+        this.distribution = distribution;
+        this.fromEpochDay = from.toEpochDay();
+        this.days = to.toEpochDay() - fromEpochDay + 1;
+        this.inverseSkew = 1.0 / skew;
+        this.random = new SplittableRandom(seed);
+        if (distribution == Distribution.DUPLICATED) {
+            this.distinctEpochDays = new long[distinctDates];
+            for (int i = 0; i < distinctDates; i++) {
+                distinctEpochDays[i] = fromEpochDay + random.nextLong(days);
+            }
+        } else {
+            this.distinctEpochDays = null;
+        }
+    }
+
+    /**
+     * @return the next date, as a number of days since the epoch.
+     */
+    public long nextEpochDay() {
+        return switch (distribution) {
+            case UNIFORM -> fromEpochDay + random.nextLong(days);
+            // u^(1/skew) has the density skew * x^(skew - 1) on [0, 1)
+            case SKEWED -> fromEpochDay + (long) (days * Math.pow(random.nextDouble(), inverseSkew));
+            case DUPLICATED -> distinctEpochDays[random.nextInt(distinctEpochDays.length)];
+        };
+    }
+
+    /**
+     * @return the next date.
+     */
+    public LocalDate next() {
+        return LocalDate.ofEpochDay(nextEpochDay());
+    }
+}
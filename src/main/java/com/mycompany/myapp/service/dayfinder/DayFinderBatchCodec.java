@@ -0,0 +1,171 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Reads the dates of a batch into epoch days, and writes the computed days of week back.
+ * <p>
+ * Three formats are supported:
+ * <ul>
+ *     <li>JSON: an array of ISO {@code yyyy-MM-dd} dates or of epoch day numbers, answered with an array of days of week.</li>
+ *     <li>Text: one ISO {@code yyyy-MM-dd} date per line, answered with one day of week per line.</li>
+ *     <li>Packed: big-endian 32 bits epoch days, answered with one byte per day of week.</li>
+ * </ul>
+ * Days of week go from 1 (Monday) to 7 (Sunday). A date that does not exist is not an error: it is answered with 0, so
+ * that the answer stays aligned with the batch.
+ */
+public final class DayFinderBatchCodec {
+
+    /**
+     * The maximum number of dates in a batch.
+     */
+    public static final int MAX_BATCH_SIZE = 1 << 24;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private DayFinderBatchCodec() {}
+
+    /**
+     * Read a JSON array of ISO dates or epoch day numbers.
+     *
+     * @param parser the parser of the batch.
+     * @return the epoch days.
+     * @throws IllegalArgumentException if the batch is not an array of dates or is too large.
+     * @throws IOException if the batch cannot be read.
+     */
+    public static int[] readJson(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("The batch must be a JSON array");
+        }
+        int[] epochDays = new int[INITIAL_CAPACITY];
+        int size = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            int epochDay;
+            if (token == JsonToken.VALUE_STRING) {
+                // The characters are read in place, no String is built
+                epochDay = DayFinderEngine.epochDay(
+                    DayFinderEngine.parseIsoDate(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                );
+            } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                epochDay = parser.getIntValue();
+            } else if (token == JsonToken.VALUE_NULL) {
+                epochDay = DayFinderEngine.INVALID_EPOCH_DAY;
+            } else {
+                throw new IllegalArgumentException("The batch must only hold dates or epoch days");
+            }
+            epochDays = ensureCapacity(epochDays, size);
+            epochDays[size++] = epochDay;
+        }
+        return Arrays.copyOf(epochDays, size);
+    }
+
+    /**
+     * Read ISO dates, one per line. Empty lines are skipped.
+     *
+     * @param in the batch.
+     * @return the epoch days.
+     * @throws IllegalArgumentException if the batch is too large.
+     * @throws IOException if the batch cannot be read.
+     */
+    public static int[] readText(InputStream in) throws IOException {
+        int[] epochDays = new int[INITIAL_CAPACITY];
+        int size = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        char[] line = new char[10];
+        int lineLength = 0;
+        for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+            for (int i = 0; i < read; i++) {
+                byte b = buffer[i];
+                if (b == '\n') {
+                    if (lineLength > 0) {
+                        epochDays = ensureCapacity(epochDays, size);
+                        epochDays[size++] = parseLine(line, lineLength);
+                        lineLength = 0;
+                    }
+                } else if (b != '\r') {
+                    if (lineLength < line.length) {
+                        line[lineLength] = (char) b;
+                    }
+                    lineLength++;
+                }
+            }
+        }
+        if (lineLength > 0) {
+            epochDays = ensureCapacity(epochDays, size);
+            epochDays[size++] = parseLine(line, lineLength);
+        }
+        return Arrays.copyOf(epochDays, size);
+    }
+
+    /**
+     * Read big-endian 32 bits epoch days.
+     *
+     * @param in the batch.
+     * @return the epoch days.
+     * @throws IllegalArgumentException if the batch is not made of 32 bits values or is too large.
+     * @throws IOException if the batch cannot be read.
+     */
+    public static int[] readPacked(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(MAX_BATCH_SIZE * Integer.BYTES + 1);
+        if (bytes.length > MAX_BATCH_SIZE * Integer.BYTES) {
+            throw new IllegalArgumentException("The batch cannot hold more than " + MAX_BATCH_SIZE + " dates");
+        }
+        if (bytes.length % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("The batch must be made of 32 bits epoch days");
+        }
+        int[] epochDays = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(epochDays);
+        return epochDays;
+    }
+
+    /**
+     * Write days of week as a JSON array.
+     */
+    public static byte[] writeJson(byte[] daysOfWeek) {
+        if (daysOfWeek.length == 0) {
+            return new byte[] { '[', ']' };
+        }
+        byte[] json = new byte[daysOfWeek.length * 2 + 1];
+        for (int i = 0; i < daysOfWeek.length; i++) {
+            json[i * 2] = (byte) (i == 0 ? '[' : ',');
+            json[i * 2 + 1] = (byte) ('0' + daysOfWeek[i]);
+        }
+        json[json.length - 1] = ']';
+        return json;
+    }
+
+    /**
+     * Write days of week, one per line.
+     */
+    public static byte[] writeText(byte[] daysOfWeek) {
+        byte[] text = new byte[daysOfWeek.length * 2];
+        for (int i = 0; i < daysOfWeek.length; i++) {
+            text[i * 2] = (byte) ('0' + daysOfWeek[i]);
+            text[i * 2 + 1] = '\n';
+        }
+        return text;
+    }
+
+    private static int parseLine(char[] line, int lineLength) {
+        return lineLength > line.length
+            ? DayFinderEngine.INVALID_EPOCH_DAY
+            : DayFinderEngine.epochDay(DayFinderEngine.parseIsoDate(line, 0, lineLength));
+    }
+
+    private static int[] ensureCapacity(int[] epochDays, int size) {
+        if (size < epochDays.length) {
+            return epochDays;
+        }
+        if (size >= MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch cannot hold more than " + MAX_BATCH_SIZE + " dates");
+        }
+        return Arrays.copyOf(epochDays, Math.min(epochDays.length * 2, MAX_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,266 @@
+package com.mycompany.myapp.service.dayfinder;
+
+/**
+ * Calendar arithmetic on the proleptic ISO calendar, the one of {@link java.time.LocalDate}.
+ * <p>
+ * Everything is computed on primitives and nothing is allocated, so the engine can run at a very high rate without
+ * putting any pressure on the garbage collector. The facts about a day are packed into a single {@code int}, read
+ * back with {@link #dayOfWeek(int)}, {@link #isoWeek(int)}, {@link #isoWeekYear(int, int)}, {@link #dayOfYear(int)}
+ * and {@link #leapYear(int)}.
+ */
+public final class DayFinderEngine {
+
+    /**
+     * The facts returned for a date that does not exist.
+     */
+    public static final int INVALID = 0;
+
+    /**
+     * The epoch day standing for a date that does not exist, its day of week is 0.
+     */
+    public static final int INVALID_EPOCH_DAY = Integer.MIN_VALUE;
+
+    public static final int MIN_YEAR = -999_999_999;
+
+    public static final int MAX_YEAR = 999_999_999;
+
+    private static final int ISO_WEEK_SHIFT = 3;
+
+    private static final int DAY_OF_YEAR_SHIFT = 9;
+
+    private static final int LEAP_YEAR_SHIFT = 18;
+
+    private static final int WEEK_YEAR_SHIFT = 19;
+
+    private static final int DAY_OF_WEEK_MASK = 0x7;
+
+    private static final int ISO_WEEK_MASK = 0x3F;
+
+    private static final int DAY_OF_YEAR_MASK = 0x1FF;
+
+    private static final int WEEK_YEAR_MASK = 0x3;
+
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    // Days before the first of each month in common years
+    private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+
+    private DayFinderEngine() {}
+
+    /**
+     * Compute the facts about a date.
+     *
+     * @param year the year, from {@value #MIN_YEAR} to {@value #MAX_YEAR}.
+     * @param month the month of year, from 1 to 12.
+     * @param dayOfMonth the day of month, from 1 to 31.
+     * @return the packed facts about the date, or {@link #INVALID} if the date does not exist.
+     */
+    public static int describe(int year, int month, int dayOfMonth) {
+        if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        boolean leap = isLeapYear(year);
+        int dayOfYear = DAYS_BEFORE_MONTH[month - 1] + dayOfMonth + (leap && month > 2 ? 1 : 0);
+        int dayOfWeek = dayOfWeekOfEpochDay(toEpochDay(year, month, dayOfMonth));
+
+        // Week 1 is the week holding the first Thursday of the year
+        int isoWeek = (dayOfYear - dayOfWeek + 10) / 7;
+        int weekYearOffset = 0;
+        if (isoWeek < 1) {
+            isoWeek = weeksInYear(year - 1L);
+            weekYearOffset = -1;
+        } else if (isoWeek > weeksInYear(year)) {
+            isoWeek = 1;
+            weekYearOffset = 1;
+        }
+
+        return (
+            dayOfWeek |
+            isoWeek << ISO_WEEK_SHIFT |
+            dayOfYear << DAY_OF_YEAR_SHIFT |
+            (leap ? 1 : 0) << LEAP_YEAR_SHIFT |
+            (weekYearOffset + 1) << WEEK_YEAR_SHIFT
+        );
+    }
+
+    /**
+     * Compute the facts about a date written in the ISO {@code yyyy-MM-dd} format.
+     *
+     * @param text the date.
+     * @return the packed facts about the date, or {@link #INVALID} if the text is not a date.
+     */
+    public static int describe(CharSequence text) {
+        int date = parseIsoDate(text);
+        return date < 0 ? INVALID : describe(date / 10_000, date / 100 % 100, date % 100);
+    }
+
+    /**
+     * Parse a date written in the ISO {@code yyyy-MM-dd} format.
+     *
+     * @param text the date.
+     * @return the date as the {@code yyyyMMdd} number, or {@code -1} if the text is not in the ISO format.
+     */
+    public static int parseIsoDate(CharSequence text) {
+        if (text == null || text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return -1;
+        }
+        int date = 0;
+        for (int i = 0; i < 10; i++) {
+            if (i == 4 || i == 7) {
+                continue;
+            }
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            date = date * 10 + digit;
+        }
+        return date;
+    }
+
+    /**
+     * Parse a date written in the ISO {@code yyyy-MM-dd} format.
+     *
+     * @param chars the characters holding the date.
+     * @param offset the offset of the date in the characters.
+     * @param length the length of the date.
+     * @return the date as the {@code yyyyMMdd} number, or {@code -1} if the text is not in the ISO format.
+     */
+    public static int parseIsoDate(char[] chars, int offset, int length) {
+        if (length != 10 || chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            return -1;
+        }
+        int date = 0;
+        for (int i = 0; i < 10; i++) {
+            if (i == 4 || i == 7) {
+                continue;
+            }
+            int digit = chars[offset + i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            date = date * 10 + digit;
+        }
+        return date;
+    }
+
+    /**
+     * Convert a {@code yyyyMMdd} number, as returned by the {@code parseIsoDate} methods, to an epoch day.
+     *
+     * @param date the {@code yyyyMMdd} number.
+     * @return the epoch day, or {@link #INVALID_EPOCH_DAY} if the date does not exist.
+     */
+    public static int epochDay(int date) {
+        if (date < 0) {
+            return INVALID_EPOCH_DAY;
+        }
+        int year = date / 10_000;
+        int month = date / 100 % 100;
+        int dayOfMonth = date % 100;
+        if (month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > lengthOfMonth(year, month)) {
+            return INVALID_EPOCH_DAY;
+        }
+        return (int) toEpochDay(year, month, dayOfMonth);
+    }
+
+    /**
+     * Compute the days of week of a range of epoch days.
+     *
+     * @param epochDays the epoch days.
+     * @param from the index of the first epoch day, inclusive.
+     * @param to the index of the last epoch day, exclusive.
+     * @param daysOfWeek receives the days of week at the same indexes, from 1 (Monday) to 7 (Sunday), or 0 for
+     * {@link #INVALID_EPOCH_DAY}.
+     */
+    public static void daysOfWeek(int[] epochDays, int from, int to, byte[] daysOfWeek) {
+        for (int i = from; i < to; i++) {
+            int epochDay = epochDays[i];
+            // 1970-01-01 is a Thursday
+            daysOfWeek[i] = epochDay == INVALID_EPOCH_DAY ? 0 : (byte) ((Math.floorMod(epochDay, 7) + 3) % 7 + 1);
+        }
+    }
+
+    /**
+     * @return the day of week of the packed facts, from 1 (Monday) to 7 (Sunday).
+     */
+    public static int dayOfWeek(int facts) {
+        return facts & DAY_OF_WEEK_MASK;
+    }
+
+    /**
+     * @return the ISO week of the packed facts, from 1 to 53.
+     */
+    public static int isoWeek(int facts) {
+        return facts >>> ISO_WEEK_SHIFT & ISO_WEEK_MASK;
+    }
+
+    /**
+     * @return the ISO week-based year of the packed facts, which differs from the calendar year around new year.
+     */
+    public static int isoWeekYear(int facts, int year) {
+        return year + (facts >>> WEEK_YEAR_SHIFT & WEEK_YEAR_MASK) - 1;
+    }
+
+    /**
+     * @return the day of year of the packed facts, from 1 to 366.
+     */
+    public static int dayOfYear(int facts) {
+        return facts >>> DAY_OF_YEAR_SHIFT & DAY_OF_YEAR_MASK;
+    }
+
+    /**
+     * @return whether the year of the packed facts is a leap year.
+     */
+    public static boolean leapYear(int facts) {
+        return (facts >>> LEAP_YEAR_SHIFT & 1) == 1;
+    }
+
+    /**
+     * @return the day of week of the epoch day, from 1 (Monday) to 7 (Sunday).
+     */
+    public static int dayOfWeekOfEpochDay(long epochDay) {
+        // 1970-01-01 is a Thursday
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    public static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Count the days from 1970-01-01 to a date, with the algorithm of {@link java.time.LocalDate#toEpochDay()}.
+     */
+    public static long toEpochDay(long year, int month, int dayOfMonth) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += dayOfMonth - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @return 53 if the ISO week-based year has 53 weeks, that is when it ends on a Thursday or is a leap year ending on a Friday.
+     */
+    private static int weeksInYear(long year) {
+        int lastDayOfWeek = dayOfWeekOfEpochDay(toEpochDay(year, 12, 31));
+        return lastDayOfWeek == 4 || (lastDayOfWeek == 5 && isLeapYear(year)) ? 53 : 52;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import com.mycompany.myapp.service.dto.DayInfoDTO;
+import jakarta.annotation.PreDestroy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service computing the calendar facts about a day with the {@link DayFinderEngine}.
+ * <p>
+ * The facts only depend on the date, so there is no transaction nor database access here.
+ */
+@Service
+public class DayFinderService {
+
+    private final Logger log = LoggerFactory.getLogger(DayFinderService.class);
+
+    /**
+     * Number of days of week computed by each fork-join task: batches up to this size are computed by the calling thread.
+     */
+    static final int BATCH_SPLIT_SIZE = 1 << 16;
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Get the facts about a date.
+     *
+     * @param date the date, in the ISO {@code yyyy-MM-dd} format.
+     * @return the facts about the date, or empty if the text is not a valid date.
+     */
+    public Optional<DayInfoDTO> find(CharSequence date) {
+        log.debug("Request to find the day : {}", date);
+        int value = DayFinderEngine.parseIsoDate(date);
+        return value < 0 ? Optional.empty() : find(value / 10_000, value / 100 % 100, value % 100);
+    }
+
+    /**
+     * Get the facts about a date.
+     *
+     * @param year the year.
+     * @param month the month of year, from 1 to 12.
+     * @param dayOfMonth the day of month, from 1 to 31.
+     * @return the facts about the date, or empty if the date does not exist.
+     */
+    public Optional<DayInfoDTO> find(int year, int month, int dayOfMonth) {
+        int facts = DayFinderEngine.describe(year, month, dayOfMonth);
+        if (facts == DayFinderEngine.INVALID) {
+            return Optional.empty();
+        }
+        DayInfoDTO dayInfoDTO = new DayInfoDTO();
+        dayInfoDTO.setDate(LocalDate.of(year, month, dayOfMonth));
+        dayInfoDTO.setDayOfWeek(DayOfWeek.of(DayFinderEngine.dayOfWeek(facts)));
+        dayInfoDTO.setIsoWeek(DayFinderEngine.isoWeek(facts));
+        dayInfoDTO.setIsoWeekYear(DayFinderEngine.isoWeekYear(facts, year));
+        dayInfoDTO.setDayOfYear(DayFinderEngine.dayOfYear(facts));
+        dayInfoDTO.setLeapYear(DayFinderEngine.leapYear(facts));
+        return Optional.of(dayInfoDTO);
+    }
+
+    /**
+     * Get the days of week of a batch of epoch days.
+     * <p>
+     * Large batches are split across a fork-join pool sized on the available processors.
+     *
+     * @param epochDays the epoch days.
+     * @return the days of week at the same indexes, from 1 (Monday) to 7 (Sunday), or 0 for
+     * {@link DayFinderEngine#INVALID_EPOCH_DAY}.
+     */
+    public byte[] findDaysOfWeek(int[] epochDays) {
+        log.debug("Request to find the days of week of {} days", epochDays.length);
+        byte[] daysOfWeek = new byte[epochDays.length];
+        if (epochDays.length <= BATCH_SPLIT_SIZE) {
+            DayFinderEngine.daysOfWeek(epochDays, 0, epochDays.length, daysOfWeek);
+        } else {
+            forkJoinPool.invoke(new DaysOfWeekTask(epochDays, 0, epochDays.length, daysOfWeek));
+        }
+        return daysOfWeek;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+    }
+
+    private static final class DaysOfWeekTask extends RecursiveAction {
+
+        private final int[] epochDays;
+
+        private final int from;
+
+        private final int to;
+
+        private final byte[] daysOfWeek;
+
+        private DaysOfWeekTask(int[] epochDays, int from, int to, byte[] daysOfWeek) {
+            this.epochDays = epochDays;
+            this.from = from;
+            this.to = to;
+            this.daysOfWeek = daysOfWeek;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SPLIT_SIZE) {
+                DayFinderEngine.daysOfWeek(epochDays, from, to, daysOfWeek);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DaysOfWeekTask(epochDays, from, middle, daysOfWeek), new DaysOfWeekTask(epochDays, middle, to, daysOfWeek));
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * A keyset cursor over {@link com.mycompany.myapp.domain.CalendarDay} rows.
+ * <p>
+ * The cursor holds the sort key of the last row of a page, so that the next page can seek
+ * directly to it instead of skipping an offset. It is exchanged with clients as an opaque,
+ * URL-safe token.
+ */
+public final class CalendarDayCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * The keys a cursor can seek on.
+     */
+    public enum Order {
+        /**
+         * Seek on {@code id}.
+         */
+        ID("i"),
+        /**
+         * Seek on {@code (date, id)}, rows without a date coming first.
+         */
+        DATE("d");
+
+        private final String code;
+
+        Order(String code) {
+            this.code = code;
+        }
+
+        static Order fromCode(String code) {
+            for (Order order : values()) {
+                if (order.code.equals(code)) {
+                    return order;
+                }
+            }
+            throw new IllegalArgumentException("Unknown cursor order: " + code);
+        }
+    }
+
+    private final Order order;
+
+    private final LocalDate date;
+
+    private final Long id;
+
+    private CalendarDayCursor(Order order, LocalDate date, Long id) {
+        this.order = Objects.requireNonNull(order, "order");
+        this.date = date;
+        this.id = id;
+    }
+
+    /**
+     * Create a cursor pointing before the first row.
+     *
+     * @param order the keys to seek on.
+     * @return the cursor of the first page.
+     */
+    public static CalendarDayCursor first(Order order) {
+        return new CalendarDayCursor(order, null, null);
+    }
+
+    /**
+     * Create a cursor pointing right after the given row.
+     *
+     * @param order the keys to seek on.
+     * @param calendarDayDTO the last row of the current page.
+     * @return the cursor of the next page.
+     */
+    public static CalendarDayCursor after(Order order, CalendarDayDTO calendarDayDTO) {
+        Objects.requireNonNull(calendarDayDTO.getId(), "id");
+        return new CalendarDayCursor(order, order == Order.DATE ? calendarDayDTO.getDate() : null, calendarDayDTO.getId());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token the opaque token.
+     * @return the decoded cursor.
+     * @throws IllegalArgumentException if the token is not a valid cursor.
+     */
+    public static CalendarDayCursor decode(String token) {
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split(":", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            Order order = Order.fromCode(parts[0]);
+            Long id = Long.valueOf(parts[1]);
+            LocalDate date = parts[2].isEmpty() ? null : LocalDate.ofEpochDay(Long.parseLong(parts[2]));
+            if (order == Order.ID && date != null) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new CalendarDayCursor(order, date, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque, URL-safe token.
+     *
+     * @return the token.
+     * @throws IllegalStateException if this is the cursor of the first page.
+     */
+    public String encode() {
+        if (id == null) {
+            throw new IllegalStateException("The first page cursor cannot be encoded");
+        }
+        String raw = order.code + ":" + id + ":" + (date == null ? "" : Long.toString(date.toEpochDay()));
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CalendarDayCursor)) {
+            return false;
+        }
+        CalendarDayCursor other = (CalendarDayCursor) o;
+        return order == other.order && Objects.equals(date, other.date) && Objects.equals(id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, date, id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CalendarDayCursor{" +
+            "order=" + getOrder() +
+            ", date='" + getDate() + "'" +
+            ", id=" + getId() +
+            "}";
+    }
+}
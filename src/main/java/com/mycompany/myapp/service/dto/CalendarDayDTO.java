@@ -14,6 +14,8 @@ public class CalendarDayDTO implements Serializable {
 
     private LocalDate date;
 
+    private Long version;
+
     public Long getId() {
         return id;
     }
@@ -30,6 +32,14 @@ public class CalendarDayDTO implements Serializable {
         this.date = date;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -57,6 +67,7 @@ public class CalendarDayDTO implements Serializable {
         return "CalendarDayDTO{" +
             "id=" + getId() +
             ", date='" + getDate() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
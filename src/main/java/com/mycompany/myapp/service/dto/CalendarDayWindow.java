@@ -0,0 +1,31 @@
+package com.mycompany.myapp.service.dto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of {@link CalendarDayDTO} read with a {@link CalendarDayCursor}, along with the cursor of the next page if any.
+ */
+public class CalendarDayWindow {
+
+    private final List<CalendarDayDTO> content;
+
+    private final CalendarDayCursor next;
+
+    public CalendarDayWindow(List<CalendarDayDTO> content, CalendarDayCursor next) {
+        this.content = List.copyOf(content);
+        this.next = next;
+    }
+
+    public List<CalendarDayDTO> getContent() {
+        return content;
+    }
+
+    public Optional<CalendarDayCursor> getNext() {
+        return Optional.ofNullable(next);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
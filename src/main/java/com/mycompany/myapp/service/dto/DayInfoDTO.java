@@ -0,0 +1,103 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO holding the calendar facts about a day, as computed by the {@link com.mycompany.myapp.service.dayfinder.DayFinderService}.
+ */
+public class DayInfoDTO implements Serializable {
+
+    private LocalDate date;
+
+    private DayOfWeek dayOfWeek;
+
+    private int isoWeek;
+
+    private int isoWeekYear;
+
+    private int dayOfYear;
+
+    private boolean leapYear;
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public int getIsoWeek() {
+        return isoWeek;
+    }
+
+    public void setIsoWeek(int isoWeek) {
+        this.isoWeek = isoWeek;
+    }
+
+    public int getIsoWeekYear() {
+        return isoWeekYear;
+    }
+
+    public void setIsoWeekYear(int isoWeekYear) {
+        this.isoWeekYear = isoWeekYear;
+    }
+
+    public int getDayOfYear() {
+        return dayOfYear;
+    }
+
+    public void setDayOfYear(int dayOfYear) {
+        this.dayOfYear = dayOfYear;
+    }
+
+    public boolean isLeapYear() {
+        return leapYear;
+    }
+
+    public void setLeapYear(boolean leapYear) {
+        this.leapYear = leapYear;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DayInfoDTO)) {
+            return false;
+        }
+
+        DayInfoDTO dayInfoDTO = (DayInfoDTO) o;
+        return Objects.equals(this.date, dayInfoDTO.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.date);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "DayInfoDTO{" +
+            "date='" + getDate() + "'" +
+            ", dayOfWeek='" + getDayOfWeek() + "'" +
+            ", isoWeek=" + getIsoWeek() +
+            ", isoWeekYear=" + getIsoWeekYear() +
+            ", dayOfYear=" + getDayOfYear() +
+            ", leapYear='" + isLeapYear() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,115 @@
+package com.mycompany.myapp.web.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Filter measuring the heap allocated and the CPU time used by the thread serving a request, with the
+ * {@link com.sun.management.ThreadMXBean}.
+ * <p>
+ * Only a sample of the requests is measured. The measures are recorded into the {@value #ALLOCATED_METER_NAME} and
+ * {@value #CPU_METER_NAME} distribution summaries, tagged like {@code http.server.requests} with the {@code uri} template
+ * and the {@code method}. The work done outside of the thread serving the request, by the asynchronous requests or the
+ * tasks they submit, is not measured: the asynchronous requests are not recorded.
+ */
+public class ResourceUsageFilter extends OncePerRequestFilter {
+
+    public static final String ALLOCATED_METER_NAME = "http.server.requests.allocated";
+
+    public static final String CPU_METER_NAME = "http.server.requests.cpu";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private final double sampleRate;
+
+    private final boolean allocationMeasured;
+
+    private final boolean cpuMeasured;
+
+    private final Meter.MeterProvider<DistributionSummary> allocated;
+
+    private final Meter.MeterProvider<DistributionSummary> cpu;
+
+    /**
+     * @param meterRegistry the registry of the distribution summaries.
+     * @param sampleRate the fraction of the requests measured, from 0 to 1.
+     */
+    public ResourceUsageFilter(MeterRegistry meterRegistry, double sampleRate) {
+        this((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean(), meterRegistry, sampleRate);
+    }
+
+    ResourceUsageFilter(com.sun.management.ThreadMXBean threadMXBean, MeterRegistry meterRegistry, double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("The sample rate must be between 0 and 1: " + sampleRate);
+        }
+        this.threadMXBean = threadMXBean;
+        this.sampleRate = sampleRate;
+        this.allocationMeasured = threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+        this.cpuMeasured = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        this.allocated = DistributionSummary
+            .builder(ALLOCATED_METER_NAME)
+            .description("The heap allocated by the thread serving a request")
+            .baseUnit("bytes")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(1024.0)
+            .maximumExpectedValue(1024.0 * 1024 * 1024)
+            .withRegistry(meterRegistry);
+        this.cpu = DistributionSummary
+            .builder(CPU_METER_NAME)
+            .description("The CPU time used by the thread serving a request")
+            .baseUnit("seconds")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(1e-6)
+            .maximumExpectedValue(10.0)
+            .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return (!allocationMeasured && !cpuMeasured) || !sampled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        long allocatedStart = allocationMeasured ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+        long cpuStart = cpuMeasured ? threadMXBean.getCurrentThreadCpuTime() : 0;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                long allocatedBytes = allocationMeasured ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedStart : 0;
+                long cpuNanos = cpuMeasured ? threadMXBean.getCurrentThreadCpuTime() - cpuStart : 0;
+                Tags tags = Tags.of("uri", uri(request), "method", request.getMethod());
+                if (allocationMeasured) {
+                    allocated.withTags(tags).record(allocatedBytes);
+                }
+                if (cpuMeasured) {
+                    cpu.withTags(tags).record(cpuNanos / 1e9);
+                }
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
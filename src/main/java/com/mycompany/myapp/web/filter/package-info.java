@@ -0,0 +1,4 @@
+/**
+ * Request chain filters.
+ */
+package com.mycompany.myapp.web.filter;
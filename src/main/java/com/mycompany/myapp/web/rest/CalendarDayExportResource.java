@@ -0,0 +1,154 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mycompany.myapp.service.CalendarDayService;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for exporting {@link com.mycompany.myapp.domain.CalendarDay} in bulk.
+ * <p>
+ * The export is streamed from the database to the client, so it runs in constant memory whatever the size of the table.
+ */
+@RestController
+@RequestMapping("/api/calendar-days")
+public class CalendarDayExportResource {
+
+    private final Logger log = LoggerFactory.getLogger(CalendarDayExportResource.class);
+
+    private static final String ENTITY_NAME = "webservicedayfinderCalendarDay";
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CalendarDayService calendarDayService;
+
+    private final ObjectWriter calendarDayWriter;
+
+    public CalendarDayExportResource(CalendarDayService calendarDayService, ObjectMapper objectMapper) {
+        this.calendarDayService = calendarDayService;
+        // Rows are written one per line to the same generator, which must only be flushed when its buffer is full
+        this.calendarDayWriter = objectMapper
+            .writerFor(CalendarDayDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("");
+    }
+
+    /**
+     * {@code GET  /calendar-days/export} : export all the calendarDays.
+     *
+     * @param format the export format, {@code ndjson} or {@code csv}.
+     * @param acceptEncoding the encodings accepted by the client, the export is gzipped if {@code gzip} is one of them.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the calendarDays streamed in body,
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCalendarDays(
+        @RequestParam(name = "format", defaultValue = "ndjson") String format,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.debug("REST request to export CalendarDays as {}", format);
+        ExportFormat exportFormat = parseFormat(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(exportFormat.mediaType);
+        headers.setContentDisposition(ContentDisposition.attachment().filename("calendar-days." + exportFormat.extension).build());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            // Commit the response right away, the rows then follow as they are read from the database
+            outputStream.flush();
+            try (OutputStream out = new BufferedOutputStream(gzip ? new GZIPOutputStream(outputStream, true) : outputStream, BUFFER_SIZE)) {
+                long count = exportFormat == ExportFormat.CSV ? writeCsv(out) : writeNdjson(out);
+                log.debug("Exported {} CalendarDays as {}", count, exportFormat);
+            }
+        };
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    private long writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = calendarDayWriter.createGenerator(out)) {
+            return calendarDayService.streamAll(calendarDayDTO -> {
+                try {
+                    calendarDayWriter.writeValue(generator, calendarDayDTO);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private long writeCsv(OutputStream out) throws IOException {
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write("id,date,version\n");
+            return calendarDayService.streamAll(calendarDayDTO -> {
+                try {
+                    writer.write(String.valueOf(calendarDayDTO.getId()));
+                    writer.write(',');
+                    if (calendarDayDTO.getDate() != null) {
+                        writer.write(calendarDayDTO.getDate().toString());
+                    }
+                    writer.write(',');
+                    writer.write(String.valueOf(calendarDayDTO.getVersion()));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "formatinvalid");
+        }
+    }
+
+    private enum ExportFormat {
+        NDJSON(APPLICATION_NDJSON, "ndjson"),
+        CSV(TEXT_CSV, "csv");
+
+        private final MediaType mediaType;
+
+        private final String extension;
+
+        ExportFormat(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+    }
+}
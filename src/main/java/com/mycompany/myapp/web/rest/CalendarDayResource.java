@@ -1,21 +1,41 @@
 package com.mycompany.myapp.web.rest;
 
-import com.mycompany.myapp.repository.CalendarDayRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mycompany.myapp.service.CalendarDayService;
+import com.mycompany.myapp.service.dto.CalendarDayCursor;
 import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import com.mycompany.myapp.service.dto.CalendarDayWindow;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
+import tech.jhipster.web.util.PaginationUtil;
 
 /**
  * REST controller for managing {@link com.mycompany.myapp.domain.CalendarDay}.
@@ -28,16 +48,20 @@ public class CalendarDayResource {
 
     private static final String ENTITY_NAME = "webservicedayfinderCalendarDay";
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+
+    static final int MAX_PAGE_SIZE = 1000;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final CalendarDayService calendarDayService;
 
-    private final CalendarDayRepository calendarDayRepository;
+    private final ObjectReader calendarDayReader;
 
-    public CalendarDayResource(CalendarDayService calendarDayService, CalendarDayRepository calendarDayRepository) {
+    public CalendarDayResource(CalendarDayService calendarDayService, ObjectMapper objectMapper) {
         this.calendarDayService = calendarDayService;
-        this.calendarDayRepository = calendarDayRepository;
+        this.calendarDayReader = objectMapper.readerFor(CalendarDayDTO.class);
     }
 
     /**
@@ -60,19 +84,51 @@ public class CalendarDayResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /calendar-days/bulk} : Create calendarDays in bulk.
+     * <p>
+     * The body is either a JSON array or newline delimited JSON objects. It is read as a stream and the calendarDays are
+     * committed by chunks, so when an invalid calendarDay is met, the chunks read before it are kept.
+     *
+     * @param body the calendarDayDTOs to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and the number of created calendarDays in the
+     * {@code X-Total-Count} header, or with status {@code 400 (Bad Request)} if the body is not valid or a calendarDay has already an ID.
+     * @throws IOException if the body cannot be read.
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson" })
+    public ResponseEntity<Void> createCalendarDays(InputStream body) throws IOException {
+        log.debug("REST request to save CalendarDays in bulk");
+        long count;
+        try (MappingIterator<CalendarDayDTO> calendarDayDTOs = calendarDayReader.readValues(body)) {
+            count = calendarDayService.saveAll(new BulkCreationIterator(calendarDayDTOs));
+        }
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .header("X-Total-Count", Long.toString(count))
+            .headers(HeaderUtil.createAlert(applicationName, count + " " + ENTITY_NAME + " are created", Long.toString(count)))
+            .build();
+    }
+
     /**
      * {@code PUT  /calendar-days/:id} : Updates an existing calendarDay.
+     * <p>
+     * The version to update is the one of the {@code If-Match} header if any, otherwise the one of the body if any.
      *
      * @param id the id of the calendarDayDTO to save.
+     * @param ifMatch the entity tag of the version to update.
      * @param calendarDayDTO the calendarDayDTO to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated calendarDayDTO,
      * or with status {@code 400 (Bad Request)} if the calendarDayDTO is not valid,
+     * or with status {@code 404 (Not Found)} if the calendarDayDTO is not found,
+     * or with status {@code 409 (Conflict)} if the calendarDayDTO does not have the version of the body,
+     * or with status {@code 412 (Precondition Failed)} if the calendarDayDTO does not have the version of the {@code If-Match} header,
      * or with status {@code 500 (Internal Server Error)} if the calendarDayDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
     public ResponseEntity<CalendarDayDTO> updateCalendarDay(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody CalendarDayDTO calendarDayDTO
     ) throws URISyntaxException {
         log.debug("REST request to update CalendarDay : {}, {}", id, calendarDayDTO);
@@ -83,31 +139,27 @@ public class CalendarDayResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!calendarDayRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        CalendarDayDTO result = calendarDayService.update(calendarDayDTO);
-        return ResponseEntity
-            .ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, calendarDayDTO.getId().toString()))
-            .body(result);
+        return updated(calendarDayDTO, ifMatch, calendarDayService::update);
     }
 
     /**
      * {@code PATCH  /calendar-days/:id} : Partial updates given fields of an existing calendarDay, field will ignore if it is null
      *
      * @param id the id of the calendarDayDTO to save.
+     * @param ifMatch the entity tag of the version to update.
      * @param calendarDayDTO the calendarDayDTO to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated calendarDayDTO,
      * or with status {@code 400 (Bad Request)} if the calendarDayDTO is not valid,
      * or with status {@code 404 (Not Found)} if the calendarDayDTO is not found,
+     * or with status {@code 409 (Conflict)} if the calendarDayDTO does not have the version of the body,
+     * or with status {@code 412 (Precondition Failed)} if the calendarDayDTO does not have the version of the {@code If-Match} header,
      * or with status {@code 500 (Internal Server Error)} if the calendarDayDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<CalendarDayDTO> partialUpdateCalendarDay(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody CalendarDayDTO calendarDayDTO
     ) throws URISyntaxException {
         log.debug("REST request to partial update CalendarDay partially : {}, {}", id, calendarDayDTO);
@@ -118,31 +170,182 @@ public class CalendarDayResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!calendarDayRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        return updated(calendarDayDTO, ifMatch, calendarDayService::partialUpdate);
+    }
+
+    private ResponseEntity<CalendarDayDTO> updated(
+        CalendarDayDTO calendarDayDTO,
+        String ifMatch,
+        Function<CalendarDayDTO, Optional<CalendarDayDTO>> update
+    ) {
+        if (ifMatch != null) {
+            calendarDayDTO.setVersion(EntityTags.parseIfMatch(ifMatch));
+        }
+        Optional<CalendarDayDTO> result;
+        try {
+            result = update.apply(calendarDayDTO);
+        } catch (OptimisticLockingFailureException e) {
+            if (ifMatch != null) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED);
+            }
+            throw e;
         }
+        // A precondition on a calendarDay that does not exist fails
+        HttpStatus notFound = ifMatch == null ? HttpStatus.NOT_FOUND : HttpStatus.PRECONDITION_FAILED;
+        return result
+            .map(updatedCalendarDayDTO ->
+                ResponseEntity
+                    .ok()
+                    .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, calendarDayDTO.getId().toString()))
+                    .eTag(EntityTags.strong(updatedCalendarDayDTO.getVersion()))
+                    .body(updatedCalendarDayDTO)
+            )
+            .orElseThrow(() -> new ResponseStatusException(notFound));
+    }
 
-        Optional<CalendarDayDTO> result = calendarDayService.partialUpdate(calendarDayDTO);
+    /**
+     * {@code GET  /calendar-days} : get a page of calendarDays, using keyset pagination.
+     * <p>
+     * The {@code Link} header of the response holds the URL of the next page, if any.
+     *
+     * @param cursor the opaque cursor of the page to read, as found in the {@code Link} header of the previous page.
+     * @param size the page size, bounded by {@value #MAX_PAGE_SIZE}.
+     * @param orderBy the keys to order and seek on, {@code id} or {@code date}; ignored when a cursor is given.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of calendarDays in body,
+     * or with status {@code 400 (Bad Request)} if the cursor or the order is not valid.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<CalendarDayDTO>> getAllCalendarDays(
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+        @RequestParam(name = "orderBy", defaultValue = "id") String orderBy
+    ) {
+        log.debug("REST request to get a page of CalendarDays after : {}", cursor);
+        CalendarDayCursor calendarDayCursor = cursor == null ? CalendarDayCursor.first(parseOrder(orderBy)) : parseCursor(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CalendarDayWindow window = calendarDayService.findAll(calendarDayCursor, pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        window
+            .getNext()
+            .ifPresent(next -> {
+                String nextUrl = ServletUriComponentsBuilder
+                    .fromCurrentRequest()
+                    .replaceQueryParam("orderBy")
+                    .replaceQueryParam("cursor", next.encode())
+                    .replaceQueryParam("size", pageSize)
+                    .toUriString();
+                headers.add(HttpHeaders.LINK, "<" + nextUrl + ">; rel=\"next\"");
+            });
+        List<CalendarDayDTO> content = window.getContent();
+        return ResponseEntity.ok().headers(headers).eTag(collectionETag(content, content.size())).body(content);
+    }
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, calendarDayDTO.getId().toString())
-        );
+    /**
+     * {@code GET  /calendar-days?from=:from&to=:to} : get a page of the calendarDays whose date is within a range.
+     * <p>
+     * The calendarDays can only be sorted on {@code date}, ascending by default, so that the page is read in index order.
+     *
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of calendarDays in body,
+     * or with status {@code 400 (Bad Request)} if the range or the sort is not valid.
+     */
+    @GetMapping(value = "", params = { "from", "to" })
+    public ResponseEntity<List<CalendarDayDTO>> getAllCalendarDaysBetween(
+        @RequestParam("from") LocalDate from,
+        @RequestParam("to") LocalDate to,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of CalendarDays between {} and {}", from, to);
+        if (from.isAfter(to)) {
+            throw new BadRequestAlertException("Invalid range", ENTITY_NAME, "rangeinvalid");
+        }
+        Page<CalendarDayDTO> page = calendarDayService.findAllByDateBetween(from, to, sortedByDate(pageable));
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity
+            .ok()
+            .headers(headers)
+            .eTag(collectionETag(page.getContent(), page.getTotalElements()))
+            .body(page.getContent());
     }
 
     /**
-     * {@code GET  /calendar-days} : get all the calendarDays.
+     * {@code GET  /calendar-days?ids=:ids} : get the calendarDays of the given ids.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of calendarDays in body.
+     * @param ids the ids of the calendarDays, at most {@value #MAX_PAGE_SIZE}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of the calendarDays found in body, in
+     * the order of the ids, or with status {@code 400 (Bad Request)} if there are too many ids.
      */
-    @GetMapping("")
-    public List<CalendarDayDTO> getAllCalendarDays() {
-        log.debug("REST request to get all CalendarDays");
-        return calendarDayService.findAll();
+    @GetMapping(value = "", params = "ids")
+    public ResponseEntity<List<CalendarDayDTO>> getCalendarDaysByIds(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get CalendarDays : {}", ids);
+        return calendarDaysByIds(ids);
+    }
+
+    /**
+     * {@code POST  /calendar-days/by-ids} : get the calendarDays of the given ids, for lists too long for a URL.
+     *
+     * @param ids the ids of the calendarDays, at most {@value #MAX_PAGE_SIZE}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of the calendarDays found in body, in
+     * the order of the ids, or with status {@code 400 (Bad Request)} if there are too many ids.
+     */
+    @PostMapping("/by-ids")
+    public ResponseEntity<List<CalendarDayDTO>> getCalendarDaysByIdsInBody(@RequestBody List<Long> ids) {
+        log.debug("REST request to get CalendarDays : {}", ids);
+        return calendarDaysByIds(ids);
+    }
+
+    private ResponseEntity<List<CalendarDayDTO>> calendarDaysByIds(List<Long> ids) {
+        if (ids.size() > MAX_PAGE_SIZE || ids.contains(null)) {
+            throw new BadRequestAlertException("Invalid ids", ENTITY_NAME, "idsinvalid");
+        }
+        List<CalendarDayDTO> calendarDayDTOs = calendarDayService.findAllByIds(ids);
+        return ResponseEntity.ok().eTag(collectionETag(calendarDayDTOs, calendarDayDTOs.size())).body(calendarDayDTOs);
+    }
+
+    private static String collectionETag(List<CalendarDayDTO> calendarDayDTOs, long total) {
+        return EntityTags.weak(
+            calendarDayDTOs,
+            CalendarDayDTO::getId,
+            calendarDayDTO -> Objects.requireNonNullElse(calendarDayDTO.getVersion(), 0L),
+            total
+        );
+    }
+
+    private static Pageable sortedByDate(Pageable pageable) {
+        Sort.Direction direction = Sort.Direction.ASC;
+        for (Sort.Order order : pageable.getSort()) {
+            if (!"date".equals(order.getProperty())) {
+                throw new BadRequestAlertException("Invalid sort", ENTITY_NAME, "sortinvalid");
+            }
+            direction = order.getDirection();
+        }
+        // The id breaks the ties so that the pages are stable, the index holds it after the date
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(direction, "date", "id"));
+    }
+
+    private CalendarDayCursor.Order parseOrder(String orderBy) {
+        try {
+            return CalendarDayCursor.Order.valueOf(orderBy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid order", ENTITY_NAME, "orderinvalid");
+        }
+    }
+
+    private CalendarDayCursor parseCursor(String cursor) {
+        try {
+            return CalendarDayCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
     }
 
     /**
      * {@code GET  /calendar-days/:id} : get the "id" calendarDay.
+     * <p>
+     * The version of the calendarDay is its entity tag: when it matches the {@code If-None-Match} header, the calendarDay,
+     * usually read from the cache, is not written in the response.
      *
      * @param id the id of the calendarDayDTO to retrieve.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the calendarDayDTO, or with status {@code 404 (Not Found)}.
@@ -151,7 +354,10 @@ public class CalendarDayResource {
     public ResponseEntity<CalendarDayDTO> getCalendarDay(@PathVariable("id") Long id) {
         log.debug("REST request to get CalendarDay : {}", id);
         Optional<CalendarDayDTO> calendarDayDTO = calendarDayService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(calendarDayDTO);
+        // Spring answers 304 (Not Modified) instead when the entity tag matches the If-None-Match header
+        return calendarDayDTO
+            .map(result -> ResponseEntity.ok().eTag(EntityTags.strong(result.getVersion())).body(result))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -169,4 +375,49 @@ public class CalendarDayResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * Checks the calendarDays read from a bulk creation body, reporting the invalid ones as bad requests.
+     */
+    private static final class BulkCreationIterator implements Iterator<CalendarDayDTO> {
+
+        private final MappingIterator<CalendarDayDTO> calendarDayDTOs;
+
+        private long index;
+
+        private BulkCreationIterator(MappingIterator<CalendarDayDTO> calendarDayDTOs) {
+            this.calendarDayDTOs = calendarDayDTOs;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return calendarDayDTOs.hasNext();
+            } catch (RuntimeException e) {
+                throw invalidCalendarDay();
+            }
+        }
+
+        @Override
+        public CalendarDayDTO next() {
+            CalendarDayDTO calendarDayDTO;
+            try {
+                calendarDayDTO = calendarDayDTOs.next();
+            } catch (RuntimeException e) {
+                throw invalidCalendarDay();
+            }
+            if (calendarDayDTO == null) {
+                throw invalidCalendarDay();
+            }
+            if (calendarDayDTO.getId() != null) {
+                throw new BadRequestAlertException("A new calendarDay cannot already have an ID", ENTITY_NAME, "idexists");
+            }
+            index++;
+            return calendarDayDTO;
+        }
+
+        private BadRequestAlertException invalidCalendarDay() {
+            return new BadRequestAlertException("Invalid calendarDay at index " + index, ENTITY_NAME, "bodyinvalid");
+        }
+    }
 }
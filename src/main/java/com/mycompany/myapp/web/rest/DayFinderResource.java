@@ -0,0 +1,112 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.service.dayfinder.DayFinderBatchCodec;
+import com.mycompany.myapp.service.dayfinder.DayFinderService;
+import com.mycompany.myapp.service.dto.DayInfoDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.InputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller finding the day of week and other calendar facts about a date.
+ */
+@RestController
+@RequestMapping("/api/day-finder")
+public class DayFinderResource {
+
+    private final Logger log = LoggerFactory.getLogger(DayFinderResource.class);
+
+    private static final String ENTITY_NAME = "webservicedayfinderDayInfo";
+
+    private final DayFinderService dayFinderService;
+
+    private final JsonFactory jsonFactory;
+
+    public DayFinderResource(DayFinderService dayFinderService, ObjectMapper objectMapper) {
+        this.dayFinderService = dayFinderService;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * {@code GET  /day-finder/:date} : get the facts about the "date" day.
+     *
+     * @param date the date, in the ISO {@code yyyy-MM-dd} format.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the dayInfoDTO,
+     * or with status {@code 400 (Bad Request)} if the date is not valid.
+     */
+    @GetMapping("/{date}")
+    public ResponseEntity<DayInfoDTO> getDayInfo(@PathVariable("date") String date) {
+        log.debug("REST request to find the day : {}", date);
+        return ResponseEntity.ok(find(date));
+    }
+
+    /**
+     * {@code GET  /day-finder?date=:date} : get the facts about the "date" day.
+     *
+     * @param date the date, in the ISO {@code yyyy-MM-dd} format.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the dayInfoDTO,
+     * or with status {@code 400 (Bad Request)} if the date is not valid.
+     */
+    @GetMapping(value = "", params = "date")
+    public ResponseEntity<DayInfoDTO> getDayInfoByParam(@RequestParam("date") String date) {
+        log.debug("REST request to find the day : {}", date);
+        return ResponseEntity.ok(find(date));
+    }
+
+    /**
+     * {@code POST  /day-finder/batch} : get the days of week of a batch of dates.
+     * <p>
+     * The batch is either a JSON array of ISO dates or epoch days, ISO dates one per line in plain text, or big-endian 32
+     * bits epoch days in binary. The days of week are answered in the same format, at the same indexes, from 1 (Monday)
+     * to 7 (Sunday), with 0 standing for a date that does not exist.
+     *
+     * @param contentType the format of the batch.
+     * @param body the batch.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the days of week,
+     * or with status {@code 400 (Bad Request)} if the batch is not valid.
+     * @throws IOException if the batch cannot be read.
+     */
+    @PostMapping(
+        value = "/batch",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE }
+    )
+    public ResponseEntity<byte[]> getDaysOfWeek(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body)
+        throws IOException {
+        log.debug("REST request to find the days of week of a {} batch", contentType);
+        byte[] answer;
+        try {
+            if (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+                try (JsonParser parser = jsonFactory.createParser(body)) {
+                    answer = DayFinderBatchCodec.writeJson(dayFinderService.findDaysOfWeek(DayFinderBatchCodec.readJson(parser)));
+                }
+            } else if (MediaType.TEXT_PLAIN.isCompatibleWith(contentType)) {
+                answer = DayFinderBatchCodec.writeText(dayFinderService.findDaysOfWeek(DayFinderBatchCodec.readText(body)));
+            } else {
+                answer = dayFinderService.findDaysOfWeek(DayFinderBatchCodec.readPacked(body));
+            }
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "batchinvalid");
+        }
+        return ResponseEntity.ok().contentType(new MediaType(contentType.getType(), contentType.getSubtype())).body(answer);
+    }
+
+    private DayInfoDTO find(String date) {
+        return dayFinderService.find(date).orElseThrow(() -> new BadRequestAlertException("Invalid date", ENTITY_NAME, "dateinvalid"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.mycompany.myapp.web.rest;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Entity tags of the versioned entities.
+ * <p>
+ * An entity is tagged with its version, as a strong entity tag. A collection is tagged with a weak entity tag, hashing
+ * the ids and versions of its entities.
+ */
+final class EntityTags {
+
+    private static final String ANY = "*";
+
+    private EntityTags() {}
+
+    static String strong(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static <T> String weak(Collection<T> entities, ToLongFunction<T> id, ToLongFunction<T> version, long total) {
+        long hash = mix(total);
+        for (T entity : entities) {
+            hash = mix(hash ^ id.applyAsLong(entity));
+            hash = mix(hash ^ version.applyAsLong(entity));
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Read the version required by an {@code If-Match} header, which must be a single strong entity tag or {@code *}.
+     *
+     * @param ifMatch the value of the header.
+     * @return the required version, or {@code null} if any version matches.
+     * @throws ResponseStatusException with status {@code 412 (Precondition Failed)} if the header cannot match a version.
+     */
+    static Long parseIfMatch(String ifMatch) {
+        String entityTag = ifMatch.trim();
+        if (ANY.equals(entityTag)) {
+            return null;
+        }
+        if (entityTag.length() > 2 && entityTag.startsWith("\"") && entityTag.endsWith("\"")) {
+            try {
+                return Long.valueOf(entityTag.substring(1, entityTag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our entity tags
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * The finalizer of the 64 bits MurmurHash3.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93e53a87ec5L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mycompany.myapp.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+class MethodTimingInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private MethodTimingInterceptor interceptor;
+
+    private MethodTimingEndpoint endpoint;
+
+    private Greeter greeter;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        interceptor = new MethodTimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class));
+        endpoint = new MethodTimingEndpoint(interceptor, 1.0);
+        ProxyFactory proxyFactory = new ProxyFactory(new SimpleGreeter());
+        proxyFactory.addAdvice(interceptor);
+        greeter = (Greeter) proxyFactory.getProxy();
+    }
+
+    @Test
+    void doesNotTimeByDefault() {
+        assertThat(greeter.greet("world")).isEqualTo("Hello world");
+
+        assertThat(meterRegistry.find(MethodTimingInterceptor.METER_NAME).timers()).isEmpty();
+        assertThat(endpoint.sampleRates()).isEmpty();
+    }
+
+    @Test
+    void timesTheEnabledPackages() {
+        assertThat(endpoint.configure("com.mycompany.myapp.aop", true, null)).containsEntry("com.mycompany.myapp.aop", 1.0);
+
+        greeter.greet("world");
+        greeter.greet("world");
+        assertThatThrownBy(() -> greeter.greet(null)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(timer("none").count()).isEqualTo(2);
+        assertThat(timer("IllegalArgumentException").count()).isEqualTo(1);
+
+        endpoint.configure("com.mycompany.myapp.aop", false, null);
+        greeter.greet("world");
+        assertThat(timer("none").count()).isEqualTo(2);
+    }
+
+    @Test
+    void usesTheRateOfTheMostSpecificPackage() {
+        endpoint.configure("com.mycompany.myapp", true, 1.0);
+        endpoint.configure("com.mycompany.myapp.aop.logging", true, 0.000_001);
+        endpoint.configure("com.mycompany.myapp.aop.log", true, 1.0);
+
+        greeter.greet("world");
+        assertThat(timer("none").count()).isZero();
+
+        endpoint.configure("com.mycompany.myapp.aop.logging", false, null);
+        greeter.greet("world");
+        assertThat(timer("none").count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidSampleRates() {
+        assertThatThrownBy(() -> endpoint.configure("com.mycompany.myapp", true, 0.0)).isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.configure("com.mycompany.myapp", true, 1.5)).isInstanceOf(InvalidEndpointRequestException.class);
+        assertThat(endpoint.sampleRates()).isEmpty();
+    }
+
+    private io.micrometer.core.instrument.Timer timer(String exception) {
+        return meterRegistry
+            .get(MethodTimingInterceptor.METER_NAME)
+            .tag("class", "SimpleGreeter")
+            .tag("method", "greet")
+            .tag("exception", exception)
+            .timer();
+    }
+
+    interface Greeter {
+        String greet(String name);
+    }
+
+    static class SimpleGreeter implements Greeter {
+
+        @Override
+        public String greet(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("No name");
+            }
+            return "Hello " + name;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CRLFLogConverterTest {
+
+    private CRLFLogConverter converter;
+
+    @BeforeEach
+    void setup() {
+        converter = new CRLFLogConverter();
+        converter.setContext(new LoggerContext());
+        converter.start();
+    }
+
+    @Test
+    void returnsCleanMessagesAsIs() {
+        String message = "nothing to replace";
+
+        assertThat(CRLFLogConverter.sanitize(message, "_")).isSameAs(message);
+        assertThat(converter.transform(event("com.mycompany.myapp", message), message)).isSameAs(message);
+    }
+
+    @Test
+    void replacesTheCrlfCharacters() {
+        assertThat(CRLFLogConverter.sanitize("a\nb\r\nc\t", "_")).isEqualTo("a_b__c_");
+        assertThat(CRLFLogConverter.sanitize("\n", "<>")).isEqualTo("<>");
+        assertThat(converter.transform(event("com.mycompany.myapp", "forged\nline"), "forged\nline")).isEqualTo("forged_line");
+    }
+
+    @Test
+    void trustsTheSafeLoggers() {
+        assertThat(converter.transform(event("org.hibernate.SQL", "select\nfrom"), "select\nfrom")).isEqualTo("select\nfrom");
+        assertThat(converter.transform(event("org.hibernate.SQL", "select\nfrom"), "select\nfrom")).isEqualTo("select\nfrom");
+        assertThat(converter.transform(event("com.example", "a\nb"), "a\nb")).isEqualTo("a_b");
+    }
+
+    @Test
+    void trustsTheSafeMarker() {
+        LoggingEvent event = event("com.mycompany.myapp", "a\nb");
+        event.addMarker(CRLFLogConverter.CRLF_SAFE_MARKER);
+
+        assertThat(converter.transform(event, "a\nb")).isEqualTo("a\nb");
+    }
+
+    private static LoggingEvent event(String loggerName, String message) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerName);
+        event.setLevel(Level.INFO);
+        event.setMessage(message);
+        return event;
+    }
+}
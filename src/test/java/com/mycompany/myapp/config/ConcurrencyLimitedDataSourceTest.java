@@ -0,0 +1,120 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private DataSource targetDataSource;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void failsWhenTheLimitIsReachedForTooLong() throws Exception {
+        Connection connection = dataSource.getConnection();
+
+        assertThat(CompletableFuture.supplyAsync(this::tryConnection).get(10, TimeUnit.SECONDS))
+            .isInstanceOf(SQLTransientConnectionException.class);
+        connection.close();
+        assertThat(CompletableFuture.supplyAsync(this::tryConnection).get(10, TimeUnit.SECONDS)).isInstanceOf(Connection.class);
+    }
+
+    @Test
+    void aThreadHoldingAConnectionOpensAnotherOneWithoutWaiting() throws Exception {
+        Connection connection = dataSource.getConnection();
+        Connection nestedConnection = dataSource.getConnection();
+
+        nestedConnection.close();
+        assertThat(CompletableFuture.supplyAsync(this::tryConnection).get(10, TimeUnit.SECONDS))
+            .isInstanceOf(SQLTransientConnectionException.class);
+        connection.close();
+        assertThat(CompletableFuture.supplyAsync(this::tryConnection).get(10, TimeUnit.SECONDS)).isInstanceOf(Connection.class);
+    }
+
+    /**
+     * @return the connection, closed once opened, or the exception thrown when opening it.
+     */
+    private Object tryConnection() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection;
+        } catch (SQLException e) {
+            return e;
+        }
+    }
+
+    @Test
+    void closingAConnectionLetsAWaitingThreadIn() throws Exception {
+        Connection connection = dataSource.getConnection();
+        ConcurrencyLimitedDataSource patientDataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofSeconds(10));
+        Connection patientConnection = patientDataSource.getConnection();
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return patientDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+        patientConnection.close();
+        assertThat(waiting.get(10, TimeUnit.SECONDS)).isNotNull();
+        connection.close();
+    }
+
+    @Test
+    void closingAConnectionTwiceReleasesItOnce() throws Exception {
+        Connection target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        verify(target, times(2)).close();
+        Connection other = dataSource.getConnection();
+        assertThat(CompletableFuture.supplyAsync(this::tryConnection).get(10, TimeUnit.SECONDS))
+            .isInstanceOf(SQLTransientConnectionException.class);
+        other.close();
+    }
+
+    @Test
+    void releasesThePermitWhenTheTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Down")).thenAnswer(invocation -> mock(Connection.class));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("Down");
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void exportsTheWaitingThreads() throws SQLException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dataSource.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("jdbc.connections.limiter.limit").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jdbc.connections.limiter.waiting").gauge().value()).isZero();
+    }
+}
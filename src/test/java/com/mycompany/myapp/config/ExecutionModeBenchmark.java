@@ -0,0 +1,118 @@
+package com.mycompany.myapp.config;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Throughput and latency of blocking requests sent by 1024 concurrent clients, handled by a pool of platform threads
+ * sized like the Undertow workers, or by a virtual thread per request as with {@code spring.threads.virtual.enabled}.
+ * <p>
+ * Each request holds a connection of a pool of 10, limited by a {@link ConcurrencyLimitedDataSource}, for a 1ms query,
+ * then waits 20ms for some other I/O: the platform threads are all blocked long before the connections are. The
+ * {@code virtual} mode needs Java 21 or later, its setup fails on older versions. Run one mode with
+ * {@code -p mode=platform}; the p99 latency is in the {@code sample} results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1024)
+public class ExecutionModeBenchmark {
+
+    private static final int POOL_SIZE = 10;
+
+    private static final long QUERY_MILLIS = 1;
+
+    private static final long OTHER_IO_MILLIS = 20;
+
+    @Param({ "platform", "virtual" })
+    public String mode;
+
+    private AsyncTaskExecutor executor;
+
+    private ExecutorService workers;
+
+    private DataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            executor = new VirtualThreadTaskExecutor("request-");
+        } else {
+            // The default number of Undertow workers
+            workers = Executors.newFixedThreadPool(Math.max(Runtime.getRuntime().availableProcessors(), 2) * 8);
+            executor = new TaskExecutorAdapter(workers);
+        }
+        dataSource = new ConcurrencyLimitedDataSource(stubDataSource(), POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Object request() throws InterruptedException, ExecutionException {
+        Future<Object> response = executor.submit(this::handle);
+        return response.get();
+    }
+
+    private Object handle() throws SQLException, InterruptedException {
+        Object result;
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(QUERY_MILLIS);
+            result = connection;
+        }
+        Thread.sleep(OTHER_IO_MILLIS);
+        return result;
+    }
+
+    private static DataSource stubDataSource() {
+        Connection connection = (Connection) Proxy.newProxyInstance(
+            ExecutionModeBenchmark.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> null
+        );
+        return (DataSource) Proxy.newProxyInstance(
+            ExecutionModeBenchmark.class.getClassLoader(),
+            new Class<?>[] { DataSource.class },
+            (proxy, method, args) -> "getConnection".equals(method.getName()) ? connection : null
+        );
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExecutionModeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
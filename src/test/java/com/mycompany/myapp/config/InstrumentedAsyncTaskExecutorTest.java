@@ -0,0 +1,99 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.config.InstrumentedAsyncTaskExecutor.RejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
+
+class InstrumentedAsyncTaskExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InstrumentedAsyncTaskExecutor executor;
+
+    @AfterEach
+    void teardown() throws Exception {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void timesTheTasksAndExportsThePool() throws Exception {
+        executor = saturatedExecutor(RejectionPolicy.FAIL_FAST);
+
+        assertThat(meterRegistry.get("executor.active").tag("name", "test").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+        while (meterRegistry.get("executor.queued").tag("name", "test").gauge().value() > 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(executor.submit(() -> "done").get(10, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(meterRegistry.get("executor").tag("name", "test").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("executor.idle").tag("name", "test").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void failsFastWhenSaturated() throws Exception {
+        executor = saturatedExecutor(RejectionPolicy.FAIL_FAST);
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("executor.rejected").tag("policy", "fail_fast").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void runsInTheCallerWhenSaturated() throws Exception {
+        executor = saturatedExecutor(RejectionPolicy.CALLER_RUNS);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("executor.rejected").tag("policy", "caller_runs").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * @return an executor whose single thread is busy and whose queue of 1 task is full.
+     */
+    private InstrumentedAsyncTaskExecutor saturatedExecutor(RejectionPolicy rejectionPolicy) throws Exception {
+        ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setCorePoolSize(1);
+        threadPool.setMaxPoolSize(1);
+        threadPool.setQueueCapacity(1);
+        InstrumentedAsyncTaskExecutor instrumented = new InstrumentedAsyncTaskExecutor(
+            new ExceptionHandlingAsyncTaskExecutor(threadPool),
+            threadPool,
+            rejectionPolicy,
+            "test"
+        );
+        instrumented.afterPropertiesSet();
+        instrumented.bindTo(meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        instrumented.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(10, TimeUnit.SECONDS);
+        instrumented.execute(() -> await(release));
+        return instrumented;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.mycompany.myapp.config;
+
+import static ch.qos.logback.classic.Level.INFO;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of the CRLF sanitization and rate of INFO events under load, with the console pattern of logback-spring.xml
+ * written to a discarding stream.
+ * <p>
+ * The {@code sanitize*} benchmarks compare {@link CRLFLogConverter#sanitize(String, String)} to the regular expression
+ * it replaced, and the {@code transform*} ones add the marker and logger checks of the converter. The {@code *Info}
+ * ones log from 4 threads through a synchronous appender or a {@link MeteredAsyncAppender}: the asynchronous rate
+ * includes the events discarded once its queue is nearly full, whose count is printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d %5p [%t] %-40.40logger{39} : %crlf(%m){red} %n";
+
+    private static final String CLEAN_MESSAGE = "Request to get CalendarDay : CalendarDayDTO{id=1051, date='2026-10-17', version=3}";
+
+    private static final String FORGED_MESSAGE = "Request to get CalendarDay : 1051\n2026-10-17 ERROR forged entry";
+
+    private LoggerContext context;
+
+    private Logger syncLogger;
+
+    private Logger asyncLogger;
+
+    private MeteredAsyncAppender asyncAppender;
+
+    private CRLFLogConverter converter;
+
+    private ILoggingEvent event;
+
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        Map<String, String> ruleRegistry = new HashMap<>();
+        ruleRegistry.put("crlf", CRLFLogConverter.class.getName());
+        context.putObject(CoreConstants.PATTERN_RULE_REGISTRY, ruleRegistry);
+
+        syncLogger = logger("sync", nullAppender());
+
+        asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC");
+        asyncAppender.setQueueSize(1024);
+        asyncAppender.addAppender(nullAppender());
+        asyncAppender.start();
+        asyncLogger = logger("async", asyncAppender);
+
+        converter = new CRLFLogConverter();
+        converter.setContext(context);
+        converter.setOptionList(List.of("red"));
+        converter.start();
+        event = new LoggingEvent(Logger.FQCN, context.getLogger("com.mycompany.myapp.web.rest.CalendarDayResource"), INFO, "", null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("Discarded events: " + asyncAppender.getDiscardedCount());
+        context.stop();
+    }
+
+    @Benchmark
+    public String sanitizeClean() {
+        return CRLFLogConverter.sanitize(CLEAN_MESSAGE, "_");
+    }
+
+    @Benchmark
+    public String regexClean() {
+        return CLEAN_MESSAGE.replaceAll("[\n\r\t]", "_");
+    }
+
+    @Benchmark
+    public String sanitizeForged() {
+        return CRLFLogConverter.sanitize(FORGED_MESSAGE, "_");
+    }
+
+    @Benchmark
+    public String regexForged() {
+        return FORGED_MESSAGE.replaceAll("[\n\r\t]", "_");
+    }
+
+    @Benchmark
+    public String transformClean() {
+        return converter.transform(event, CLEAN_MESSAGE);
+    }
+
+    @Benchmark
+    public String transformForged() {
+        return converter.transform(event, FORGED_MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void syncInfo() {
+        syncLogger.info("Request to get CalendarDay : {}", id++);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void asyncInfo() {
+        asyncLogger.info("Request to get CalendarDay : {}", id++);
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        logger.setLevel(INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> nullAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LoggingBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
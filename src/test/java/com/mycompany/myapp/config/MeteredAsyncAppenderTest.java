@@ -0,0 +1,78 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeteredAsyncAppenderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final LoggerContext context = new LoggerContext();
+
+    private MeteredAsyncAppender appender;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        AppenderBase<ILoggingEvent> blockedAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blockedAppender.setContext(context);
+        blockedAppender.start();
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setName("TEST");
+        appender.setQueueSize(10);
+        appender.addAppender(blockedAppender);
+        appender.start();
+        meterRegistry = new SimpleMeterRegistry();
+        appender.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void countsTheDiscardedEvents() {
+        // The worker may take the first event and block on it, then the queue takes events until 2 places are left
+        for (int i = 0; i < 12; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+        appender.doAppend(event(Level.ERROR));
+
+        assertThat(appender.getDiscardedCount()).isBetween(2L, 3L);
+        assertThat(meterRegistry.get("logback.async.discarded").tag("appender", "TEST").functionCounter().count())
+            .isEqualTo(appender.getDiscardedCount());
+        assertThat(meterRegistry.get("logback.async.queue.size").gauge().value()).isEqualTo(appender.getNumberOfElementsInQueue());
+        assertThat(meterRegistry.get("logback.async.queue.capacity").gauge().value()).isEqualTo(10);
+    }
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, "message", null, null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.config.cache;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Serialization time of a cached {@link CalendarDayDTO} with the Compact serializer, against the Java serialization
+ * Hazelcast falls back to for {@link java.io.Serializable} values.
+ * <p>
+ * Run it with the main method, which first prints the size of a serialized entry in both formats.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarDaySerializationBenchmark {
+
+    private InternalSerializationService compactSerializationService;
+
+    private InternalSerializationService javaSerializationService;
+
+    private CalendarDayDTO calendarDayDTO;
+
+    private Data compactData;
+
+    private Data javaData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        compactSerializationService = TestSerializationServices.create();
+        javaSerializationService = new DefaultSerializationServiceBuilder().build();
+        calendarDayDTO = calendarDayDTO();
+        compactData = compactSerializationService.toData(calendarDayDTO);
+        javaData = javaSerializationService.toData(calendarDayDTO);
+    }
+
+    @Benchmark
+    public Data compactWrite() {
+        return compactSerializationService.toData(calendarDayDTO);
+    }
+
+    @Benchmark
+    public Object compactRead() {
+        return compactSerializationService.toObject(compactData);
+    }
+
+    @Benchmark
+    public Data javaWrite() {
+        return javaSerializationService.toData(calendarDayDTO);
+    }
+
+    @Benchmark
+    public Object javaRead() {
+        return javaSerializationService.toObject(javaData);
+    }
+
+    private static CalendarDayDTO calendarDayDTO() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(1_000_000L);
+        calendarDayDTO.setDate(LocalDate.of(2026, 10, 17));
+        return calendarDayDTO;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        CalendarDaySerializationBenchmark benchmark = new CalendarDaySerializationBenchmark();
+        benchmark.setUp();
+        System.out.printf(
+            "Serialized entry size: compact %d bytes, java %d bytes%n",
+            benchmark.compactData.totalSize(),
+            benchmark.javaData.totalSize()
+        );
+        new Runner(
+            new OptionsBuilder().include(CalendarDaySerializationBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()
+        )
+            .run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.mycompany.myapp.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.mycompany.myapp.config.CacheConfiguration;
+import com.mycompany.myapp.domain.CalendarDay;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class CompactSerializationTest {
+
+    private final SerializationService serializationService = TestSerializationServices.create();
+
+    @Test
+    void roundTripsCalendarDayDTO() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(42L);
+        calendarDayDTO.setDate(LocalDate.of(2024, 2, 29));
+        calendarDayDTO.setVersion(3L);
+
+        CalendarDayDTO read = serializationService.toObject(serializationService.toData(calendarDayDTO));
+
+        assertThat(read.getId()).isEqualTo(42L);
+        assertThat(read.getDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(read.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void roundTripsCalendarDay() {
+        CalendarDay read = serializationService.toObject(
+            serializationService.toData(new CalendarDay().id(42L).date(LocalDate.of(1969, 12, 31)).version(3L))
+        );
+
+        assertThat(read.getId()).isEqualTo(42L);
+        assertThat(read.getDate()).isEqualTo(LocalDate.of(1969, 12, 31));
+        assertThat(read.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        CalendarDayDTO read = serializationService.toObject(serializationService.toData(new CalendarDayDTO()));
+
+        assertThat(read.getId()).isNull();
+        assertThat(read.getDate()).isNull();
+        assertThat(read.getVersion()).isNull();
+    }
+
+    @Test
+    void readsTheEntriesWrittenWithoutVersion() {
+        SchemaService schemaService = TestSerializationServices.schemaService();
+        SerializationConfig previousConfig = new SerializationConfig();
+        previousConfig.getCompactSerializationConfig().addSerializer(new PreviousCalendarDaySerializer());
+        SerializationService previousMember = TestSerializationServices.create(previousConfig, schemaService);
+        SerializationService member = TestSerializationServices.create(CacheConfiguration.initializeSerializationConfig(), schemaService);
+
+        CalendarDay read = member.toObject(previousMember.toData(new CalendarDay().id(42L).date(LocalDate.of(2024, 2, 29))));
+
+        assertThat(read.getId()).isEqualTo(42L);
+        assertThat(read.getDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(read.getVersion()).isNull();
+    }
+
+    @Test
+    void isSmallerThanJavaSerialization() throws IOException {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(42L);
+        calendarDayDTO.setDate(LocalDate.of(2024, 2, 29));
+
+        Data data = serializationService.toData(calendarDayDTO);
+
+        assertThat(data.totalSize()).isLessThan(javaSerializedSize(calendarDayDTO) / 4);
+    }
+
+    static int javaSerializedSize(Serializable value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+
+    /**
+     * The serializer of the previous schema, without the version.
+     */
+    private static final class PreviousCalendarDaySerializer implements CompactSerializer<CalendarDay> {
+
+        @Override
+        public CalendarDay read(CompactReader reader) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(CompactWriter writer, CalendarDay calendarDay) {
+            writer.writeNullableInt64("id", calendarDay.getId());
+            writer.writeNullableInt32("date", EpochDays.toEpochDay(calendarDay.getDate()));
+        }
+
+        @Override
+        public String getTypeName() {
+            return "calendarDay";
+        }
+
+        @Override
+        public Class<CalendarDay> getCompactClass() {
+            return CalendarDay.class;
+        }
+    }
+}
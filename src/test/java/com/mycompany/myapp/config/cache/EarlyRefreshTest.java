@@ -0,0 +1,77 @@
+package com.mycompany.myapp.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EarlyRefreshTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private double random;
+
+    private EarlyRefresh earlyRefresh;
+
+    @BeforeEach
+    void setup() {
+        random = 0.5;
+        earlyRefresh = new EarlyRefresh(Duration.ofSeconds(60), 1.0, 100, nanoTime::get, () -> random);
+        long start = earlyRefresh.start();
+        advance(Duration.ofSeconds(1));
+        earlyRefresh.loaded(1L, start);
+    }
+
+    @Test
+    void refreshesCloserToTheExpiryThanTheLoadTime() {
+        assertThat(earlyRefresh.shouldRefresh(1L)).isFalse();
+
+        advance(Duration.ofMillis(59_000));
+        assertThat(earlyRefresh.shouldRefresh(1L)).isFalse();
+
+        // ln(2) = 0.69
+        advance(Duration.ofMillis(400));
+        assertThat(earlyRefresh.shouldRefresh(1L)).isTrue();
+    }
+
+    @Test
+    void refreshesEarlierOnUnlikelyDraws() {
+        advance(Duration.ofSeconds(50));
+        assertThat(earlyRefresh.shouldRefresh(1L)).isFalse();
+
+        // ln(1 / (1 - 0.99999)) = 11.5
+        random = 0.99999;
+        assertThat(earlyRefresh.shouldRefresh(1L)).isTrue();
+    }
+
+    @Test
+    void restartsTheTimeToLiveOnWrites() {
+        advance(Duration.ofMillis(59_500));
+        earlyRefresh.written(1L);
+        assertThat(earlyRefresh.shouldRefresh(1L)).isFalse();
+
+        earlyRefresh.written(2L);
+        assertThat(earlyRefresh.shouldRefresh(2L)).isFalse();
+    }
+
+    @Test
+    void forgetsTheEntries() {
+        advance(Duration.ofMillis(59_500));
+        earlyRefresh.forget(1L);
+        assertThat(earlyRefresh.shouldRefresh(1L)).isFalse();
+    }
+
+    @Test
+    void doesNotRefreshUnknownOrExpiredEntries() {
+        assertThat(earlyRefresh.shouldRefresh(2L)).isFalse();
+
+        advance(Duration.ofSeconds(60));
+        assertThat(earlyRefresh.shouldRefresh(1L)).isFalse();
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
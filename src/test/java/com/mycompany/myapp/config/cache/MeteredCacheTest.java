@@ -0,0 +1,104 @@
+package com.mycompany.myapp.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.management.jfr.CacheLookupEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class MeteredCacheTest {
+
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MeteredCache(new ConcurrentMapCache("test"), meterRegistry, Tags.of("cacheManager", "testCacheManager"));
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, "one");
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(1L, String.class)).isEqualTo("one");
+        assertThat(cache.get(2L, () -> "two")).isEqualTo("two");
+        assertThat(cache.get(2L, () -> "other")).isEqualTo("two");
+
+        assertThat(count("cache.gets", "result", "hit")).isEqualTo(3);
+        assertThat(count("cache.gets", "result", "miss")).isEqualTo(2);
+        assertThat(count("cache.puts")).isEqualTo(1);
+    }
+
+    @Test
+    void countsTheHitsAndMissesOfMultiGets() {
+        cache.put(1L, "one");
+
+        assertThat(((MeteredCache) cache).getAll(List.of(1L, 2L, 3L))).containsExactlyEntriesOf(Map.of(1L, "one"));
+
+        assertThat(count("cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(count("cache.gets", "result", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    void recordsTheLookups(@TempDir Path directory) throws IOException {
+        Cache tieredCache = new MeteredCache(new ConcurrentMapCache("tiered"), meterRegistry, Tags.of("tier", "local"));
+        tieredCache.put(1L, "one");
+        Path file = directory.resolve("test.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(CacheLookupEvent.class);
+            recording.start();
+            tieredCache.get(1L);
+            ((MeteredCache) tieredCache).getAll(List.of(1L, 2L, 3L));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile
+            .readAllEvents(file)
+            .stream()
+            .filter(event -> event.getEventType().getName().equals("com.mycompany.myapp.CacheLookup"))
+            .toList();
+        assertThat(events).extracting(event -> event.getString("cache")).containsExactly("tiered", "tiered");
+        assertThat(events).extracting(event -> event.getString("tier")).containsExactly("local", "local");
+        assertThat(events).extracting(event -> event.getInt("keys")).containsExactly(1, 3);
+        assertThat(events).extracting(event -> event.getInt("hits")).containsExactly(1, 1);
+    }
+
+    @Test
+    void countsRemovals() {
+        cache.put(1L, "one");
+        cache.evict(1L);
+        assertThat(cache.evictIfPresent(1L)).isFalse();
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(count("cache.removals")).isEqualTo(1);
+    }
+
+    @Test
+    void tagsTheMetersWithTheCacheName() {
+        cache.get(1L);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("cacheManager", "testCacheManager").counters()).hasSize(2);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+}
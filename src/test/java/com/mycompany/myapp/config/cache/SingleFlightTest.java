@@ -0,0 +1,98 @@
+package com.mycompany.myapp.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+class SingleFlightTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry, Tags.of("cache", "test"));
+    }
+
+    @Test
+    void sharesTheRunningLoadOfAKey() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() ->
+            singleFlight.load(
+                1L,
+                () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+                    return "one";
+                }
+            )
+        );
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> singleFlight.load(1L, () -> "other"));
+        while (count("coalesced") == 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(singleFlight.tryLoad(1L, () -> "other")).isFalse();
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(loads).hasValue(1);
+        assertThat(count("loaded")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void loadsAgainOnceTheLoadIsOver() {
+        assertThat(singleFlight.load(1L, () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.load(1L, () -> "two")).isEqualTo("two");
+        assertThat(singleFlight.tryLoad(1L, () -> "three")).isTrue();
+
+        assertThat(count("loaded")).isEqualTo(3);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    void wrapsTheCheckedExceptions() {
+        assertThatThrownBy(() ->
+                singleFlight.load(
+                    1L,
+                    () -> {
+                        throw new IOException("test");
+                    }
+                )
+            )
+            .isInstanceOf(Cache.ValueRetrievalException.class)
+            .hasCauseInstanceOf(IOException.class);
+        assertThatThrownBy(() ->
+                singleFlight.load(
+                    1L,
+                    () -> {
+                        throw new IllegalStateException("test");
+                    }
+                )
+            )
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.load(1L, () -> "one")).isEqualTo("one");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("cache.loads").tag("result", result).counter().count();
+    }
+}
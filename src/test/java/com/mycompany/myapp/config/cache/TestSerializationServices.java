@@ -0,0 +1,56 @@
+package com.mycompany.myapp.config.cache;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.mycompany.myapp.config.CacheConfiguration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the serialization service of the Hazelcast members, without starting a member.
+ */
+final class TestSerializationServices {
+
+    private TestSerializationServices() {}
+
+    static InternalSerializationService create() {
+        return create(CacheConfiguration.initializeSerializationConfig(), schemaService());
+    }
+
+    /**
+     * @param schemaService the schemas, shared by the services standing for the members of a same cluster.
+     */
+    static InternalSerializationService create(SerializationConfig config, SchemaService schemaService) {
+        return new DefaultSerializationServiceBuilder().setConfig(config).setSchemaService(schemaService).build();
+    }
+
+    static SchemaService schemaService() {
+        return new InMemorySchemaService();
+    }
+
+    /**
+     * Members share the Compact schemas across the cluster, here they are only kept in memory.
+     */
+    private static final class InMemorySchemaService implements SchemaService {
+
+        private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+        @Override
+        public Schema get(long schemaId) {
+            return schemas.get(schemaId);
+        }
+
+        @Override
+        public void put(Schema schema) {
+            putLocal(schema);
+        }
+
+        @Override
+        public void putLocal(Schema schema) {
+            schemas.putIfAbsent(schema.getSchemaId(), schema);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.mycompany.myapp.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TwoLevelCacheManagerTest {
+
+    private final Member localMember = mock(Member.class);
+
+    private final Member otherMember = mock(Member.class);
+
+    private ITopic<CacheInvalidation> topic;
+
+    private MeterRegistry meterRegistry;
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        topic = mock(ITopic.class);
+        Cluster cluster = mock(Cluster.class);
+        when(cluster.getLocalMember()).thenReturn(localMember);
+        HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+        when(hazelcastInstance.<CacheInvalidation>getTopic(TwoLevelCacheManager.INVALIDATION_TOPIC)).thenReturn(topic);
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(
+            hazelcastInstance,
+            new ConcurrentMapCacheManager("test"),
+            name -> new ConcurrentMapCache(name, false),
+            name -> null,
+            Runnable::run,
+            meterRegistry,
+            "testCacheManager"
+        );
+    }
+
+    @Test
+    void publishesTheChangesOnTheTopic() {
+        cacheManager.getCache("test").put(1L, "one");
+
+        verify(topic).publish(new CacheInvalidation("test", 1L));
+    }
+
+    @Test
+    void dropsTheEntriesChangedByOtherMembers() {
+        Cache cache = cacheManager.getCache("test");
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        cacheManager.onInvalidation(message(new CacheInvalidation("test", 1L), localMember));
+        cacheManager.onInvalidation(message(new CacheInvalidation("test", 2L), otherMember));
+        cacheManager.onInvalidation(message(new CacheInvalidation("unknown", 1L), otherMember));
+
+        cache.get(1L);
+        cache.get(2L);
+        assertThat(meterRegistry.get("cache.gets").tag("tier", "local").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("tier", "remote").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countsTheLoads() {
+        Cache cache = cacheManager.getCache("test");
+
+        assertThat(cache.get(1L, () -> "one")).isEqualTo("one");
+        assertThat(cache.get(1L, () -> "other")).isEqualTo("one");
+
+        assertThat(meterRegistry.get("cache.loads").tag("cache", "test").tag("result", "loaded").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.loads").tag("cache", "test").tag("result", "coalesced").counter().count()).isZero();
+    }
+
+    @Test
+    void doesNotCreateUnknownCaches() {
+        assertThat(cacheManager.getCache("unknown")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Message<CacheInvalidation> message(CacheInvalidation invalidation, Member publishingMember) {
+        Message<CacheInvalidation> message = mock(Message.class);
+        when(message.getMessageObject()).thenReturn(invalidation);
+        when(message.getPublishingMember()).thenReturn(publishingMember);
+        return message;
+    }
+}
@@ -0,0 +1,195 @@
+package com.mycompany.myapp.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class TwoLevelCacheTest {
+
+    private Cache localCache;
+
+    private Cache remoteCache;
+
+    private List<Object> invalidations;
+
+    private SingleFlight singleFlight;
+
+    private TwoLevelCache cache;
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        localCache = new ConcurrentMapCache("test", false);
+        remoteCache = new ConcurrentMapCache("test", false);
+        invalidations = new ArrayList<>();
+        singleFlight = new SingleFlight(new SimpleMeterRegistry(), Tags.empty());
+        cache = new TwoLevelCache(localCache, remoteCache, invalidations::add, singleFlight, null, null);
+    }
+
+    @Test
+    void readsTheLocalTierFirst() {
+        localCache.put(1L, "local");
+        remoteCache.put(1L, "remote");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("local");
+    }
+
+    @Test
+    void fillsTheLocalTierFromTheRemoteTier() {
+        remoteCache.put(1L, "one");
+
+        assertThat(cache.get(1L).get()).isEqualTo("one");
+        assertThat(localCache.get(1L, String.class)).isEqualTo("one");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(localCache.get(2L)).isNull();
+    }
+
+    @Test
+    void loadsMissingValuesIntoBothTiers() {
+        assertThat(cache.get(1L, () -> "one")).isEqualTo("one");
+
+        assertThat(localCache.get(1L, String.class)).isEqualTo("one");
+        assertThat(remoteCache.get(1L, String.class)).isEqualTo("one");
+    }
+
+    @Test
+    void doesNotCacheMissingValues() {
+        assertThat(cache.<String>get(1L, () -> null)).isNull();
+
+        assertThat(localCache.get(1L)).isNull();
+        assertThat(remoteCache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "one")).isEqualTo("one");
+    }
+
+    @Test
+    void refreshesTheLoadedEntriesBeforeTheyExpire() {
+        AtomicLong nanoTime = new AtomicLong();
+        EarlyRefresh earlyRefresh = new EarlyRefresh(Duration.ofSeconds(60), 1.0, 100, nanoTime::get, () -> 0.5);
+        cache = new TwoLevelCache(localCache, remoteCache, invalidations::add, singleFlight, earlyRefresh, refreshes::add);
+        Callable<String> slowLoader = () -> {
+            nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+            return "one";
+        };
+        assertThat(cache.get(1L, slowLoader)).isEqualTo("one");
+
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.get(1L, () -> "two")).isEqualTo("one");
+        assertThat(remoteCache.get(1L, String.class)).isEqualTo("one");
+
+        // The load took 1s, so the entry is refreshed ln(2)s before it expires
+        nanoTime.addAndGet(Duration.ofMillis(29_500).toNanos());
+        assertThat(cache.get(1L, () -> "two")).isEqualTo("one");
+        assertThat(cache.get(1L, () -> "three")).isEqualTo("one");
+        assertThat(refreshes).hasSize(1);
+        assertThat(remoteCache.get(1L, String.class)).isEqualTo("one");
+
+        refreshes.remove(0).run();
+        assertThat(remoteCache.get(1L, String.class)).isEqualTo("two");
+        assertThat(localCache.get(1L, String.class)).isEqualTo("two");
+        assertThat(invalidations).isEmpty();
+    }
+
+    @Test
+    void servesTheCachedValueWhenTheRefreshIsRejected() {
+        AtomicLong nanoTime = new AtomicLong();
+        EarlyRefresh earlyRefresh = new EarlyRefresh(Duration.ofSeconds(60), 1.0, 100, nanoTime::get, () -> 0.5);
+        Executor saturatedExecutor = task -> {
+            throw new RejectedExecutionException("All the threads are busy");
+        };
+        cache = new TwoLevelCache(localCache, remoteCache, invalidations::add, singleFlight, earlyRefresh, saturatedExecutor);
+        Callable<String> slowLoader = () -> {
+            nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+            return "one";
+        };
+        assertThat(cache.get(1L, slowLoader)).isEqualTo("one");
+
+        nanoTime.addAndGet(Duration.ofMillis(59_500).toNanos());
+        assertThat(cache.get(1L, () -> "two")).isEqualTo("one");
+
+        cache = new TwoLevelCache(localCache, remoteCache, invalidations::add, singleFlight, earlyRefresh, Runnable::run);
+        assertThat(cache.get(1L, () -> "two")).isEqualTo("one");
+        assertThat(localCache.get(1L, String.class)).isEqualTo("two");
+    }
+
+    @Test
+    void readsManyEntriesFromTheLocalTierThenTheRemoteTier() {
+        localCache.put(1L, "local");
+        remoteCache.put(1L, "remote");
+        remoteCache.put(2L, "two");
+
+        assertThat(cache.getAll(List.of(1L, 2L, 3L))).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "local", 2L, "two"));
+        assertThat(localCache.get(2L, String.class)).isEqualTo("two");
+        assertThat(localCache.get(3L)).isNull();
+    }
+
+    @Test
+    void fillsAbsentEntriesWithoutPublishing() {
+        assertThat(cache.putIfAbsent(1L, "one")).isNull();
+        assertThat(cache.putIfAbsent(1L, "other").get()).isEqualTo("one");
+
+        assertThat(localCache.get(1L, String.class)).isEqualTo("one");
+        assertThat(remoteCache.get(1L, String.class)).isEqualTo("one");
+        assertThat(invalidations).isEmpty();
+    }
+
+    @Test
+    void publishesTheChanges() {
+        cache.put(1L, "one");
+        assertThat(localCache.get(1L, String.class)).isEqualTo("one");
+        assertThat(remoteCache.get(1L, String.class)).isEqualTo("one");
+
+        cache.evict(1L);
+        assertThat(localCache.get(1L)).isNull();
+        assertThat(remoteCache.get(1L)).isNull();
+
+        cache.clear();
+        assertThat(invalidations).containsExactly(1L, 1L, null);
+    }
+
+    @Test
+    void dropsInvalidatedEntriesFromTheLocalTierOnly() {
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        cache.invalidateLocally(1L);
+        assertThat(localCache.get(1L)).isNull();
+        assertThat(localCache.get(2L)).isNotNull();
+        assertThat(remoteCache.get(1L)).isNotNull();
+
+        cache.invalidateLocally(null);
+        assertThat(localCache.get(2L)).isNull();
+        assertThat(remoteCache.get(2L)).isNotNull();
+    }
+
+    @Test
+    void doesNotFillTheLocalTierWithAValueChangedWhileReadingIt() {
+        remoteCache.put(1L, "old");
+        Cache racingRemoteCache = new ConcurrentMapCache("test", false) {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper value = remoteCache.get(key);
+                // Another member changes the entry after it was read
+                cache.invalidateLocally(key);
+                return value;
+            }
+        };
+        cache = new TwoLevelCache(localCache, racingRemoteCache, invalidations::add, singleFlight, null, null);
+
+        assertThat(cache.get(1L).get()).isEqualTo("old");
+        assertThat(localCache.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.mycompany.myapp.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends requests at a fixed arrival rate, picking each operation at random according to its weight in the mix.
+ * <p>
+ * The requests are started on schedule whether or not the previous ones are answered, as real clients would, so that a
+ * slow server builds a backlog instead of slowing the load down. Only the requests scheduled after the warmup are
+ * measured.
+ */
+public class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadTestSettings settings;
+
+    private final String[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadGenerator(LoadTestSettings settings) {
+        this.settings = settings;
+        this.operations = settings.mix().keySet().toArray(String[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Run the load test.
+     *
+     * @param requests sends a request of the given operation, and completes with whether it succeeded; completing
+     * exceptionally is a failure too.
+     * @return the report of the measured requests.
+     * @throws InterruptedException if interrupted while waiting for the last responses.
+     */
+    public LoadReport run(Function<String, CompletableFuture<Boolean>> requests) throws InterruptedException {
+        LoadReport report = new LoadReport(settings.mix().keySet(), settings.duration());
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long start = System.nanoTime();
+        long measuredStart = start + settings.warmup().toNanos();
+        long end = measuredStart + settings.duration().toNanos();
+        log.info(
+            "Sending {} requests per second, for {} then measured for {}: {}",
+            settings.rate(),
+            settings.warmup(),
+            settings.duration(),
+            settings.mix()
+        );
+        for (long i = 0;; i++) {
+            long scheduled = start + (long) (i * intervalNanos);
+            if (scheduled - end >= 0) {
+                break;
+            }
+            for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            String operation = pick();
+            boolean measured = scheduled - measuredStart >= 0;
+            if (inFlight.get() >= settings.maxInFlight()) {
+                if (measured) {
+                    report.record(operation, System.nanoTime() - scheduled, false);
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            send(requests, operation).whenComplete((success, e) -> {
+                if (measured) {
+                    report.record(operation, System.nanoTime() - scheduled, e == null && Boolean.TRUE.equals(success));
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        return report;
+    }
+
+    private static CompletableFuture<Boolean> send(Function<String, CompletableFuture<Boolean>> requests, String operation) {
+        try {
+            return requests.apply(operation);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("No operation for " + value);
+    }
+}
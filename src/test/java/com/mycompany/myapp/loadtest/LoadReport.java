@@ -0,0 +1,122 @@
+package com.mycompany.myapp.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * The latencies and errors of the requests measured during a load test, per operation.
+ * <p>
+ * The latency of a request runs from the time it was scheduled to start, not from the time it was sent: a request
+ * delayed because the previous ones were slow is measured as slow too, instead of being hidden by the delay.
+ */
+public class LoadReport {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+
+    private final Stats total = new Stats();
+
+    private final Duration duration;
+
+    LoadReport(Iterable<String> operations, Duration duration) {
+        for (String operation : operations) {
+            stats.put(operation, new Stats());
+        }
+        this.duration = duration;
+    }
+
+    void record(String operation, long latencyNanos, boolean success) {
+        stats.get(operation).record(latencyNanos, success);
+        total.record(latencyNanos, success);
+    }
+
+    /**
+     * @return the requests completed per second, successful or not.
+     */
+    public double throughput() {
+        return total.count() / (duration.toNanos() / 1e9);
+    }
+
+    /**
+     * @return the fraction of the requests which failed.
+     */
+    public double errorRate() {
+        return total.errorRate();
+    }
+
+    /**
+     * @param percentile the percentile, from 0 to 100.
+     * @return the latency at this percentile, over all the operations.
+     */
+    public Duration latency(double percentile) {
+        return total.latency(percentile);
+    }
+
+    /**
+     * @return the report as a table, one row per operation and one for all of them.
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder(
+            String.format("%-10s %9s %9s %10s %10s %10s %10s %8s%n", "operation", "count", "req/s", "p50", "p99", "p999", "max", "errors")
+        );
+        stats.forEach((operation, operationStats) -> operationStats.format(table, operation));
+        total.format(table, "total");
+        return table.toString();
+    }
+
+    private final class Stats {
+
+        private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long latencyNanos, boolean success) {
+            latencies.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+            count.increment();
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        private long count() {
+            return count.sum();
+        }
+
+        private double errorRate() {
+            long requests = count.sum();
+            return requests == 0 ? 0 : (double) errors.sum() / requests;
+        }
+
+        private Duration latency(double percentile) {
+            return Duration.ofNanos(latencies.getValueAtPercentile(percentile));
+        }
+
+        private void format(StringBuilder table, String name) {
+            table.append(
+                String.format(
+                    "%-10s %9d %9.1f %10s %10s %10s %10s %7.3f%%%n",
+                    name,
+                    count(),
+                    count() / (duration.toNanos() / 1e9),
+                    millis(latency(50)),
+                    millis(latency(99)),
+                    millis(latency(99.9)),
+                    millis(Duration.ofNanos(latencies.getMaxValue())),
+                    errorRate() * 100
+                )
+            );
+        }
+
+        private static String millis(Duration latency) {
+            return String.format("%.2fms", latency.toNanos() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mycompany.myapp.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * The arrival rate, mix of operations and service level objectives of a load test, read from the {@code loadtest.*}
+ * system properties:
+ * <ul>
+ *     <li>{@code loadtest.rate}: the requests started per second, whatever the response times.</li>
+ *     <li>{@code loadtest.warmup} and {@code loadtest.duration}: how long the requests are sent before being measured,
+ *     then while measured.</li>
+ *     <li>{@code loadtest.mix}: the weights of the operations, as in {@code read:60,list:20,create:10}.</li>
+ *     <li>{@code loadtest.max-in-flight}: the requests waiting for their response beyond which the next ones are not
+ *     sent but counted as errors.</li>
+ *     <li>{@code loadtest.slo.p50}, {@code loadtest.slo.p99}, {@code loadtest.slo.p999}: the latency percentiles not
+ *     to exceed.</li>
+ *     <li>{@code loadtest.slo.error-rate}: the fraction of failed requests not to exceed.</li>
+ *     <li>{@code loadtest.slo.min-throughput-ratio}: the fraction of the arrival rate to complete at least.</li>
+ * </ul>
+ */
+public record LoadTestSettings(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    Map<String, Integer> mix,
+    int maxInFlight,
+    Duration p50,
+    Duration p99,
+    Duration p999,
+    double errorRate,
+    double minThroughputRatio
+) {
+    /**
+     * Read the settings from the system properties.
+     *
+     * @param defaultMix the mix of operations when {@code loadtest.mix} is not set.
+     */
+    public static LoadTestSettings fromSystemProperties(String defaultMix) {
+        return new LoadTestSettings(
+            Double.parseDouble(System.getProperty("loadtest.rate", "100")),
+            duration("loadtest.warmup", "5s"),
+            duration("loadtest.duration", "20s"),
+            parseMix(System.getProperty("loadtest.mix", defaultMix)),
+            Integer.parseInt(System.getProperty("loadtest.max-in-flight", "1000")),
+            duration("loadtest.slo.p50", "50ms"),
+            duration("loadtest.slo.p99", "250ms"),
+            duration("loadtest.slo.p999", "1s"),
+            Double.parseDouble(System.getProperty("loadtest.slo.error-rate", "0.001")),
+            Double.parseDouble(System.getProperty("loadtest.slo.min-throughput-ratio", "0.95"))
+        );
+    }
+
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] operationAndWeight = entry.trim().split(":");
+            if (operationAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid operation weight '" + entry + "', expected <operation>:<weight>");
+            }
+            int weight = Integer.parseInt(operationAndWeight[1].trim());
+            if (weight > 0) {
+                weights.put(operationAndWeight[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix of operations is empty: " + mix);
+        }
+        return weights;
+    }
+
+    private static Duration duration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(name, defaultValue));
+    }
+}
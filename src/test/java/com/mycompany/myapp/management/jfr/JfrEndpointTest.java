@@ -0,0 +1,99 @@
+package com.mycompany.myapp.management.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+
+class JfrEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrEndpoint endpoint;
+
+    @BeforeEach
+    void setup() {
+        endpoint = new JfrEndpoint(directory, Duration.ofMinutes(1), Duration.ofMinutes(5), 2);
+    }
+
+    @AfterEach
+    void cleanup() {
+        endpoint.recordings().forEach(recording -> endpoint.delete(recording.id()));
+    }
+
+    @Test
+    void recordsAndDownloads() throws IOException {
+        JfrEndpoint.RecordingDescriptor started = endpoint.start("profile", null);
+
+        assertThat(started.state()).isEqualTo(RecordingState.RUNNING);
+        assertThat(started.duration()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(endpoint.recordings()).extracting(JfrEndpoint.RecordingDescriptor::id).containsExactly(started.id());
+        assertThatThrownBy(() -> endpoint.recording(started.id())).isInstanceOf(InvalidEndpointRequestException.class);
+
+        JfrEndpoint.RecordingDescriptor stopped = endpoint.stop(started.id());
+
+        assertThat(stopped.state()).isIn(RecordingState.STOPPED, RecordingState.CLOSED);
+        assertThat(stopped.size()).isPositive();
+        Resource file = endpoint.recording(started.id());
+        assertThat(file.contentLength()).isEqualTo(stopped.size());
+        assertThat(RecordingFile.readAllEvents(file.getFile().toPath())).isNotEmpty();
+    }
+
+    @Test
+    void deletesRecordings() {
+        JfrEndpoint.RecordingDescriptor started = endpoint.start(null, Duration.ofSeconds(30));
+        endpoint.stop(started.id());
+        Path file = directory.resolve("recording-" + started.id() + ".jfr");
+        assertThat(file).exists();
+
+        endpoint.delete(started.id());
+
+        assertThat(file).doesNotExist();
+        assertThat(endpoint.recordings()).isEmpty();
+        assertThat(endpoint.recording(started.id())).isNull();
+    }
+
+    @Test
+    void keepsTheLastRecordings() {
+        long first = endpoint.start(null, null).id();
+        endpoint.stop(first);
+        long second = endpoint.start(null, null).id();
+
+        long third = endpoint.start(null, null).id();
+
+        assertThat(endpoint.recordings()).extracting(JfrEndpoint.RecordingDescriptor::id).containsExactly(second, third);
+        assertThat(directory.resolve("recording-" + first + ".jfr")).doesNotExist();
+        assertThatThrownBy(() -> endpoint.start(null, null))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("already 2 recordings running");
+    }
+
+    @Test
+    void rejectsInvalidRequests() throws IOException {
+        assertThatThrownBy(() -> endpoint.start("unknown", null))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("Unknown recording settings");
+        assertThatThrownBy(() -> endpoint.start(null, Duration.ofMinutes(6)))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("at most PT5M");
+        assertThatThrownBy(() -> endpoint.start(null, Duration.ZERO)).isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.stop(42)).isInstanceOf(InvalidEndpointRequestException.class);
+
+        assertThat(endpoint.recordings()).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
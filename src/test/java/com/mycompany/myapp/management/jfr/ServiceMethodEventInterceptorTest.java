@@ -0,0 +1,79 @@
+package com.mycompany.myapp.management.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+
+class ServiceMethodEventInterceptorTest {
+
+    @TempDir
+    Path directory;
+
+    private Calculator calculator;
+
+    @BeforeEach
+    void setup() {
+        ProxyFactory proxyFactory = new ProxyFactory(new Calculator());
+        proxyFactory.addAdvice(new ServiceMethodEventInterceptor());
+        calculator = (Calculator) proxyFactory.getProxy();
+    }
+
+    @Test
+    void recordsTheCalls() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            assertThat(calculator.twice(21)).isEqualTo(42);
+            assertThatIllegalStateException().isThrownBy(() -> calculator.fail());
+        });
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("className")).isEqualTo(Calculator.class.getName());
+        assertThat(events.get(0).getString("methodName")).isEqualTo("twice");
+        assertThat(events.get(0).getString("exception")).isNull();
+        assertThat(events.get(1).getString("methodName")).isEqualTo("fail");
+        assertThat(events.get(1).getString("exception")).isEqualTo(IllegalStateException.class.getName());
+    }
+
+    @Test
+    void recordsNothingWithoutRecording() throws IOException {
+        assertThat(calculator.twice(21)).isEqualTo(42);
+
+        assertThat(record(() -> {})).isEmpty();
+    }
+
+    private List<RecordedEvent> record(Runnable calls) throws IOException {
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceMethodEvent.class);
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile
+            .readAllEvents(file)
+            .stream()
+            .filter(event -> event.getEventType().getName().equals("com.mycompany.myapp.ServiceMethod"))
+            .toList();
+    }
+
+    public static class Calculator {
+
+        public int twice(int value) {
+            return 2 * value;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+}
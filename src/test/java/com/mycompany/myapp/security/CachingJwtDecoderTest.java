@@ -0,0 +1,92 @@
+package com.mycompany.myapp.security;
+
+import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createExpiredToken;
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createInvalidToken;
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createNotYetValidToken;
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createSignedInvalidJwt;
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createTokenWithDifferentSignature;
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createValidToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+class CachingJwtDecoderTest {
+
+    private static final String JWT_KEY =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private MeterRegistry meterRegistry;
+
+    private CachingJwtDecoder jwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        byte[] keyBytes = Base64.from(JWT_KEY).decode();
+        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder
+            .withSecretKey(new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName()))
+            .macAlgorithm(JWT_ALGORITHM)
+            .build();
+        jwtDecoder = new CachingJwtDecoder(nimbusJwtDecoder, new SecurityMetersService(meterRegistry), 100);
+    }
+
+    @Test
+    void verifiesATokenOnlyOnce() {
+        String token = createValidToken(JWT_KEY);
+
+        Jwt jwt = jwtDecoder.decode(token);
+        assertThat(jwtDecoder.decode(token)).isSameAs(jwt);
+        assertThat(jwt.getSubject()).isEqualTo("anonymous");
+
+        assertThat(cacheCount("miss")).isEqualTo(1);
+        assertThat(cacheCount("hit")).isEqualTo(1);
+        assertThat(meterRegistry.get(SecurityMetersService.TOKEN_VERIFICATIONS_METER_NAME).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheInvalidTokens() {
+        String token = createExpiredToken(JWT_KEY);
+
+        assertThatThrownBy(() -> jwtDecoder.decode(token)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtDecoder.decode(token)).isInstanceOf(JwtException.class);
+
+        assertThat(cacheCount("miss")).isEqualTo(2);
+        assertThat(invalidCount("expired")).isEqualTo(2);
+    }
+
+    @Test
+    void countsTheInvalidTokensByCause() throws Exception {
+        assertThatThrownBy(() -> jwtDecoder.decode(createTokenWithDifferentSignature())).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtDecoder.decode(createSignedInvalidJwt(JWT_KEY))).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtDecoder.decode(createInvalidToken(JWT_KEY))).isInstanceOf(JwtException.class);
+        // Unsecured tokens are rejected
+        assertThatThrownBy(() -> jwtDecoder.decode("eyJhbGciOiJub25lIn0.eyJzdWIiOiJhbm9ueW1vdXMifQ."))
+            .isInstanceOf(JwtException.class);
+        // Only the expiry is counted as such among the failed validations
+        assertThatThrownBy(() -> jwtDecoder.decode(createNotYetValidToken(JWT_KEY))).isInstanceOf(JwtException.class);
+
+        assertThat(invalidCount("invalid-signature")).isEqualTo(1);
+        assertThat(invalidCount("malformed")).isEqualTo(2);
+        assertThat(invalidCount("unsupported")).isEqualTo(2);
+        assertThat(invalidCount("expired")).isZero();
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get(SecurityMetersService.TOKEN_CACHE_METER_NAME).tag("result", result).counter().count();
+    }
+
+    private double invalidCount(String cause) {
+        return meterRegistry.get(SecurityMetersService.INVALID_TOKENS_METER_NAME).tag("cause", cause).counter().count();
+    }
+}
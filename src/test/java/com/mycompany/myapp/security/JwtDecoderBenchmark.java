@@ -0,0 +1,93 @@
+package com.mycompany.myapp.security;
+
+import static com.mycompany.myapp.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * Time and allocations of the {@code jwtDecoder} of {@link com.mycompany.myapp.config.SecurityJwtConfiguration}, on a
+ * valid token: {@code verify} parses the token and checks its HMAC signature on each call, as the bare Nimbus decoder
+ * does, {@code cached} is the {@link CachingJwtDecoder} finding the token already verified.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private static final String JWT_KEY =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private NimbusJwtDecoder nimbusJwtDecoder;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] keyBytes = Base64.from(JWT_KEY).decode();
+        SecretKey secretKey = new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName());
+        nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(secretKey).macAlgorithm(JWT_ALGORITHM).build();
+        cachingJwtDecoder = new CachingJwtDecoder(nimbusJwtDecoder, new SecurityMetersService(new SimpleMeterRegistry()), 10_000);
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet
+            .builder()
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(3600))
+            .subject("user")
+            .claim(AUTHORITIES_KEY, List.of("ROLE_USER"))
+            .build();
+        token =
+            new NimbusJwtEncoder(new ImmutableSecret<>(secretKey))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims))
+                .getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return nimbusJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return cachingJwtDecoder.decode(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtDecoderBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
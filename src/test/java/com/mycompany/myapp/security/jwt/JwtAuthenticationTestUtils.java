@@ -7,6 +7,7 @@ import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import javax.crypto.Mac;
@@ -45,6 +46,10 @@ public class JwtAuthenticationTestUtils {
     }
 
     public static String createValidTokenForUser(String jwtKey, String user) {
+        return createValidTokenForUser(jwtKey, user, Duration.ofSeconds(60));
+    }
+
+    public static String createValidTokenForUser(String jwtKey, String user, Duration validity) {
         JwtEncoder encoder = jwtEncoder(jwtKey);
 
         var now = Instant.now();
@@ -52,7 +57,7 @@ public class JwtAuthenticationTestUtils {
         JwtClaimsSet claims = JwtClaimsSet
             .builder()
             .issuedAt(now)
-            .expiresAt(now.plusSeconds(60))
+            .expiresAt(now.plus(validity))
             .subject(user)
             .claims(customClain -> customClain.put(AUTHORITIES_KEY, Collections.singletonList("ROLE_ADMIN")))
             .build();
@@ -85,6 +90,24 @@ public class JwtAuthenticationTestUtils {
         return encoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
     }
 
+    public static String createNotYetValidToken(String jwtKey) {
+        JwtEncoder encoder = jwtEncoder(jwtKey);
+
+        var now = Instant.now();
+        var future = now.plusSeconds(600);
+
+        JwtClaimsSet claims = JwtClaimsSet
+            .builder()
+            .issuedAt(now)
+            .notBefore(future)
+            .expiresAt(future.plusSeconds(600))
+            .subject("anonymous")
+            .build();
+
+        JwsHeader jwsHeader = JwsHeader.with(JWT_ALGORITHM).build();
+        return encoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
+    }
+
     public static String createInvalidToken(String jwtKey) throws Exception {
         return createValidToken(jwtKey).substring(1);
     }
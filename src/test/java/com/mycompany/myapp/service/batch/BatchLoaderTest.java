@@ -0,0 +1,108 @@
+package com.mycompany.myapp.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BatchLoaderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+
+    private BatchLoader<Long, String> loader;
+
+    @AfterEach
+    void close() {
+        loader.close();
+    }
+
+    @Test
+    void loadsTheKeysRequestedWithinTheWindowTogether() {
+        loader = loader(Duration.ofMillis(50), 100, this::evenKeys);
+
+        CompletableFuture<String> one = loader.load(1L);
+        CompletableFuture<String> two = loader.load(2L);
+        CompletableFuture<String> otherTwo = loader.load(2L);
+
+        assertThat(two.join()).isEqualTo("2");
+        assertThat(otherTwo.join()).isEqualTo("2");
+        assertThat(one.join()).isNull();
+        assertThat(batches).containsExactly(Set.of(1L, 2L));
+        DistributionSummary batchSizes = meterRegistry.get("batch.loader.size").tag("name", "test").summary();
+        assertThat(batchSizes.count()).isEqualTo(1);
+        assertThat(batchSizes.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatchesFullBatchesWithoutWaitingForTheWindow() {
+        loader = loader(Duration.ofHours(1), 2, this::evenKeys);
+
+        CompletableFuture<String> two = loader.load(2L);
+        CompletableFuture<String> four = loader.load(4L);
+
+        assertThat(CompletableFuture.allOf(two, four).orTimeout(10, TimeUnit.SECONDS).join()).isNull();
+        assertThat(two.join()).isEqualTo("2");
+        assertThat(four.join()).isEqualTo("4");
+        assertThat(batches).containsExactly(Set.of(2L, 4L));
+    }
+
+    @Test
+    void failsAllTheRequestsOfAFailedBatch() {
+        loader = loader(
+            Duration.ofMillis(1),
+            100,
+            keys -> {
+                throw new IllegalStateException("Database unavailable");
+            }
+        );
+
+        CompletableFuture<String> one = loader.load(1L);
+
+        assertThatThrownBy(one::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failsTheRequestsNotLoadedWithinTheTimeout() {
+        loader = loader(Duration.ofHours(1), 100, this::evenKeys);
+
+        CompletableFuture<String> two = loader.load(2L);
+
+        assertThatThrownBy(two::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(batches).isEmpty();
+    }
+
+    private Map<Long, String> evenKeys(Set<Long> keys) {
+        batches.add(Set.copyOf(keys));
+        return keys.stream().filter(key -> key % 2 == 0).collect(Collectors.toMap(Function.identity(), String::valueOf));
+    }
+
+    private BatchLoader<Long, String> loader(Duration window, int maxBatchSize, Function<Set<Long>, Map<Long, String>> batchFunction) {
+        return new BatchLoader<>(
+            "test",
+            batchFunction,
+            window,
+            maxBatchSize,
+            Duration.ofMillis(500),
+            Executors.newSingleThreadScheduledExecutor(),
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.mycompany.myapp.service.datagen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.CalendarDay;
+import com.mycompany.myapp.repository.CalendarDayRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link CalendarDayDatasetGenerator}.
+ */
+@IntegrationTest
+class CalendarDayDatasetGeneratorIT {
+
+    private static final LocalDate FROM = LocalDate.of(2000, 1, 1);
+
+    private static final LocalDate TO = LocalDate.of(2000, 12, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CalendarDayRepository calendarDayRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    private CalendarDayDatasetGenerator generator;
+
+    private long firstId;
+
+    private long lastId;
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        generator = new CalendarDayDatasetGenerator(jdbcTemplate, transactionTemplate, 300, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update("delete from calendar_day where id between ? and ?", firstId, lastId)
+        );
+    }
+
+    @Test
+    void generateWritesTheRows() {
+        CalendarDayDatasetGenerator.Result result = generator.generate(
+            1_000,
+            new DateSampler(DateSampler.Distribution.UNIFORM, FROM, TO, 3.0, 100, 42)
+        );
+        firstId = result.firstId();
+        lastId = result.lastId();
+
+        assertThat(result.rows()).isEqualTo(1_000);
+        assertThat(
+            jdbcTemplate.queryForObject(
+                "select count(*) from calendar_day where id between ? and ? and date between ? and ? and version = 0",
+                Long.class,
+                firstId,
+                lastId,
+                FROM,
+                TO
+            )
+        )
+            .isEqualTo(1_000);
+    }
+
+    @Test
+    void generatedIdsDoNotCollideWithHibernate() {
+        CalendarDay before = calendarDayRepository.saveAndFlush(new CalendarDay().date(FROM));
+        CalendarDayDatasetGenerator.Result result = generator.generate(
+            120,
+            new DateSampler(DateSampler.Distribution.DUPLICATED, FROM, TO, 3.0, 5, 42)
+        );
+        firstId = result.firstId();
+        lastId = result.lastId();
+        CalendarDay after = calendarDayRepository.saveAndFlush(new CalendarDay().date(TO));
+
+        assertThat(before.getId()).isLessThan(firstId);
+        // Hibernate first hands out the rest of the ids it had already allocated
+        assertThat(after.getId()).isNotIn(LongStream.rangeClosed(firstId, lastId).boxed().toList());
+        assertThat(
+            jdbcTemplate.queryForObject(
+                "select count(distinct date) from calendar_day where id between ? and ?",
+                Long.class,
+                firstId,
+                lastId
+            )
+        )
+            .isLessThanOrEqualTo(5);
+
+        calendarDayRepository.deleteAllById(List.of(before.getId(), after.getId()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.mycompany.myapp.service.datagen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class DateSamplerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2000, 1, 1);
+
+    private static final LocalDate TO = LocalDate.of(2009, 12, 31);
+
+    private static final LocalDate MIDDLE = LocalDate.of(2005, 1, 1);
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void uniformDatesAreSpreadOverTheRange() {
+        DateSampler sampler = new DateSampler(DateSampler.Distribution.UNIFORM, FROM, TO, 3.0, 100, 42);
+
+        int later = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            LocalDate date = sampler.next();
+            assertThat(date).isBetween(FROM, TO);
+            if (!date.isBefore(MIDDLE)) {
+                later++;
+            }
+        }
+        assertThat(later).isBetween(SAMPLES * 45 / 100, SAMPLES * 55 / 100);
+    }
+
+    @Test
+    void skewedDatesAreMostlyLate() {
+        DateSampler sampler = new DateSampler(DateSampler.Distribution.SKEWED, FROM, TO, 3.0, 100, 42);
+
+        int later = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            LocalDate date = sampler.next();
+            assertThat(date).isBetween(FROM, TO);
+            if (!date.isBefore(MIDDLE)) {
+                later++;
+            }
+        }
+        // 1 - 0.5^3 of the dates are in the second half
+        assertThat(later).isBetween(SAMPLES * 85 / 100, SAMPLES * 90 / 100);
+    }
+
+    @Test
+    void duplicatedDatesAreFew() {
+        DateSampler sampler = new DateSampler(DateSampler.Distribution.DUPLICATED, FROM, TO, 3.0, 10, 42);
+
+        Set<LocalDate> dates = new HashSet<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            LocalDate date = sampler.next();
+            assertThat(date).isBetween(FROM, TO);
+            dates.add(date);
+        }
+        assertThat(dates).hasSizeLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void sameSeedDrawsSameDates() {
+        DateSampler sampler = new DateSampler(DateSampler.Distribution.SKEWED, FROM, TO, 2.0, 100, 7);
+        DateSampler other = new DateSampler(DateSampler.Distribution.SKEWED, FROM, TO, 2.0, 100, 7);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sampler.next()).isEqualTo(other.next());
+        }
+    }
+
+    @Test
+    void singleDayRange() {
+        DateSampler sampler = new DateSampler(DateSampler.Distribution.SKEWED, FROM, FROM, 3.0, 100, 42);
+
+        assertThat(sampler.next()).isEqualTo(FROM);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new DateSampler(DateSampler.Distribution.UNIFORM, TO, FROM, 3.0, 100, 42));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new DateSampler(DateSampler.Distribution.SKEWED, FROM, TO, 0.5, 100, 42));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new DateSampler(DateSampler.Distribution.DUPLICATED, FROM, TO, 3.0, 0, 42));
+    }
+}
@@ -0,0 +1,75 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the batch day of week resolution on {@value #SIZE} epoch days, reported per day.
+ * <p>
+ * {@code sequential} is the throughput of a single core, {@code forkJoin} the one of the {@link DayFinderService} splitting
+ * the batch across the available processors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(DayFinderBatchBenchmark.SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class DayFinderBatchBenchmark {
+
+    static final int SIZE = 10_000_000;
+
+    private final int[] epochDays = new int[SIZE];
+
+    private final byte[] daysOfWeek = new byte[SIZE];
+
+    private DayFinderService dayFinderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = random.nextInt(-1_000_000, 1_000_000);
+        }
+        dayFinderService = new DayFinderService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dayFinderService.shutdown();
+    }
+
+    @Benchmark
+    public byte[] sequential() {
+        DayFinderEngine.daysOfWeek(epochDays, 0, SIZE, daysOfWeek);
+        return daysOfWeek;
+    }
+
+    @Benchmark
+    public byte[] forkJoin() {
+        return dayFinderService.findDaysOfWeek(epochDays);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DayFinderBatchBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build())
+            .run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class DayFinderBatchCodecTest {
+
+    private static final int EPOCH_DAY = (int) LocalDate.of(2024, 4, 3).toEpochDay();
+
+    @Test
+    void readJson() throws IOException {
+        try (JsonParser parser = new JsonFactory().createParser("[\"2024-04-03\", 19816, null, \"2023-02-29\", \"tomorrow\"]")) {
+            assertThat(DayFinderBatchCodec.readJson(parser))
+                .containsExactly(
+                    EPOCH_DAY,
+                    EPOCH_DAY,
+                    DayFinderEngine.INVALID_EPOCH_DAY,
+                    DayFinderEngine.INVALID_EPOCH_DAY,
+                    DayFinderEngine.INVALID_EPOCH_DAY
+                );
+        }
+    }
+
+    @Test
+    void readJsonRejectsOtherValues() throws IOException {
+        try (JsonParser parser = new JsonFactory().createParser("{\"date\":\"2024-04-03\"}")) {
+            assertThatIllegalArgumentException().isThrownBy(() -> DayFinderBatchCodec.readJson(parser));
+        }
+        try (JsonParser parser = new JsonFactory().createParser("[[\"2024-04-03\"]]")) {
+            assertThatIllegalArgumentException().isThrownBy(() -> DayFinderBatchCodec.readJson(parser));
+        }
+    }
+
+    @Test
+    void readText() throws IOException {
+        String text = "2024-04-03\r\n\n2024-04-03T00:00\n2024-04-03";
+        assertThat(DayFinderBatchCodec.readText(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))))
+            .containsExactly(EPOCH_DAY, DayFinderEngine.INVALID_EPOCH_DAY, EPOCH_DAY);
+    }
+
+    @Test
+    void readPacked() throws IOException {
+        byte[] packed = ByteBuffer.allocate(8).putInt(EPOCH_DAY).putInt(-1).array();
+        assertThat(DayFinderBatchCodec.readPacked(new ByteArrayInputStream(packed))).containsExactly(EPOCH_DAY, -1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> DayFinderBatchCodec.readPacked(new ByteArrayInputStream(new byte[5])));
+    }
+
+    @Test
+    void writeDaysOfWeek() {
+        byte[] daysOfWeek = { 3, 0, 7 };
+        assertThat(new String(DayFinderBatchCodec.writeJson(daysOfWeek), StandardCharsets.US_ASCII)).isEqualTo("[3,0,7]");
+        assertThat(new String(DayFinderBatchCodec.writeJson(new byte[0]), StandardCharsets.US_ASCII)).isEqualTo("[]");
+        assertThat(new String(DayFinderBatchCodec.writeText(daysOfWeek), StandardCharsets.US_ASCII)).isEqualTo("3\n0\n7\n");
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput and allocation rate of the {@link DayFinderEngine}.
+ * <p>
+ * Run it with the main method, which adds the GC profiler: {@code gc.alloc.rate.norm} must stay at about 0 B/op for the
+ * engine benchmarks, while the {@code javaTime} baseline shows what going through {@link LocalDate} costs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayFinderEngineBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final int[] years = new int[SIZE];
+
+    private final int[] months = new int[SIZE];
+
+    private final int[] days = new int[SIZE];
+
+    private final String[] texts = new String[SIZE];
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextLong(-200_000, 200_000));
+            years[i] = date.getYear();
+            months[i] = date.getMonthValue();
+            days[i] = date.getDayOfMonth();
+            texts[i] = date.toString();
+        }
+    }
+
+    @Benchmark
+    public int describe() {
+        int i = next();
+        return DayFinderEngine.describe(years[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public int describeText() {
+        return DayFinderEngine.describe(texts[next()]);
+    }
+
+    @Benchmark
+    public int javaTime() {
+        LocalDate date = LocalDate.parse(texts[next()]);
+        return date.getDayOfWeek().getValue() + date.getDayOfYear();
+    }
+
+    private int next() {
+        return index = (index + 1) & (SIZE - 1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DayFinderEngineBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build())
+            .run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import org.junit.jupiter.api.Test;
+
+class DayFinderEngineTest {
+
+    @Test
+    void describeMatchesJavaTime() {
+        LocalDate end = LocalDate.of(2500, 1, 1);
+        for (LocalDate date = LocalDate.of(1500, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+            assertMatchesJavaTime(date);
+        }
+    }
+
+    @Test
+    void describeMatchesJavaTimeAtTheLimits() {
+        assertMatchesJavaTime(LocalDate.of(0, 1, 1));
+        assertMatchesJavaTime(LocalDate.of(-1, 12, 31));
+        assertMatchesJavaTime(LocalDate.of(-4713, 11, 24));
+        assertMatchesJavaTime(LocalDate.MIN.plusDays(7));
+        assertMatchesJavaTime(LocalDate.MAX.minusDays(7));
+    }
+
+    @Test
+    void describeRejectsInvalidDates() {
+        assertThat(DayFinderEngine.describe(2023, 2, 29)).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe(2024, 4, 31)).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe(2024, 13, 1)).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe(2024, 0, 1)).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe(2024, 1, 0)).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe(Integer.MAX_VALUE, 1, 1)).isEqualTo(DayFinderEngine.INVALID);
+    }
+
+    @Test
+    void describeIsoText() {
+        int facts = DayFinderEngine.describe("2024-12-30");
+        assertThat(DayFinderEngine.dayOfWeek(facts)).isEqualTo(1);
+        assertThat(DayFinderEngine.isoWeek(facts)).isEqualTo(1);
+        assertThat(DayFinderEngine.isoWeekYear(facts, 2024)).isEqualTo(2025);
+        assertThat(DayFinderEngine.dayOfYear(facts)).isEqualTo(365);
+        assertThat(DayFinderEngine.leapYear(facts)).isTrue();
+
+        assertThat(DayFinderEngine.describe("2024-02-30")).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe("2024-4-3")).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe("2024/04/03")).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe("2024-0a-03")).isEqualTo(DayFinderEngine.INVALID);
+        assertThat(DayFinderEngine.describe((CharSequence) null)).isEqualTo(DayFinderEngine.INVALID);
+    }
+
+    private static void assertMatchesJavaTime(LocalDate date) {
+        int facts = DayFinderEngine.describe(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        assertThat(DayFinderEngine.dayOfWeek(facts)).as("day of week of %s", date).isEqualTo(date.getDayOfWeek().getValue());
+        assertThat(DayFinderEngine.isoWeek(facts)).as("ISO week of %s", date).isEqualTo(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        assertThat(DayFinderEngine.isoWeekYear(facts, date.getYear()))
+            .as("ISO week year of %s", date)
+            .isEqualTo(date.get(IsoFields.WEEK_BASED_YEAR));
+        assertThat(DayFinderEngine.dayOfYear(facts)).as("day of year of %s", date).isEqualTo(date.getDayOfYear());
+        assertThat(DayFinderEngine.leapYear(facts)).as("leap year of %s", date).isEqualTo(date.isLeapYear());
+        assertThat(DayFinderEngine.toEpochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()))
+            .as("epoch day of %s", date)
+            .isEqualTo(date.toEpochDay());
+    }
+}
@@ -0,0 +1,50 @@
+package com.mycompany.myapp.service.dayfinder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DayFinderServiceTest {
+
+    private final DayFinderService dayFinderService = new DayFinderService();
+
+    @AfterEach
+    void shutdown() {
+        dayFinderService.shutdown();
+    }
+
+    @Test
+    void findDaysOfWeekAcrossTheForkJoinPool() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] epochDays = new int[DayFinderService.BATCH_SPLIT_SIZE * 5 + 3];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = random.nextInt(-1_000_000, 1_000_000);
+        }
+        epochDays[7] = DayFinderEngine.INVALID_EPOCH_DAY;
+
+        byte[] daysOfWeek = dayFinderService.findDaysOfWeek(epochDays);
+
+        assertThat(daysOfWeek).hasSize(epochDays.length);
+        assertThat(daysOfWeek[7]).isZero();
+        for (int i = 0; i < epochDays.length; i++) {
+            if (i != 7) {
+                assertThat(daysOfWeek[i]).isEqualTo((byte) LocalDate.ofEpochDay(epochDays[i]).getDayOfWeek().getValue());
+            }
+        }
+    }
+
+    @Test
+    void findDayInfo() {
+        assertThat(dayFinderService.find("2024-04-03"))
+            .hasValueSatisfying(dayInfo -> {
+                assertThat(dayInfo.getDate()).isEqualTo(LocalDate.of(2024, 4, 3));
+                assertThat(dayInfo.getDayOfWeek()).isEqualTo(DayOfWeek.WEDNESDAY);
+                assertThat(dayInfo.getIsoWeek()).isEqualTo(14);
+            });
+        assertThat(dayFinderService.find("2024-04-31")).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.mycompany.myapp.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class CalendarDayCursorTest {
+
+    @Test
+    void encodeDecodeIdCursor() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(42L);
+        calendarDayDTO.setDate(LocalDate.of(2024, 4, 3));
+
+        CalendarDayCursor cursor = CalendarDayCursor.after(CalendarDayCursor.Order.ID, calendarDayDTO);
+
+        CalendarDayCursor decoded = CalendarDayCursor.decode(cursor.encode());
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getOrder()).isEqualTo(CalendarDayCursor.Order.ID);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getDate()).isNull();
+    }
+
+    @Test
+    void encodeDecodeDateCursor() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(7L);
+        calendarDayDTO.setDate(LocalDate.of(1969, 12, 31));
+
+        CalendarDayCursor cursor = CalendarDayCursor.after(CalendarDayCursor.Order.DATE, calendarDayDTO);
+
+        CalendarDayCursor decoded = CalendarDayCursor.decode(cursor.encode());
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getDate()).isEqualTo(LocalDate.of(1969, 12, 31));
+    }
+
+    @Test
+    void encodeDecodeDateCursorWithoutDate() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(7L);
+
+        CalendarDayCursor cursor = CalendarDayCursor.after(CalendarDayCursor.Order.DATE, calendarDayDTO);
+
+        assertThat(CalendarDayCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(Long.MAX_VALUE);
+        calendarDayDTO.setDate(LocalDate.MAX);
+
+        assertThat(CalendarDayCursor.after(CalendarDayCursor.Order.DATE, calendarDayDTO).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void firstCursorCannotBeEncoded() {
+        assertThatIllegalStateException().isThrownBy(() -> CalendarDayCursor.first(CalendarDayCursor.Order.ID).encode());
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CalendarDayCursor.decode("not a cursor"));
+        assertThatIllegalArgumentException().isThrownBy(() -> CalendarDayCursor.decode("eDoxOg"));
+        assertThatIllegalArgumentException().isThrownBy(() -> CalendarDayCursor.decode("aTphYmM6"));
+    }
+}
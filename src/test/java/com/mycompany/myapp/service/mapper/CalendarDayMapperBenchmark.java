@@ -0,0 +1,80 @@
+package com.mycompany.myapp.service.mapper;
+
+import com.mycompany.myapp.domain.CalendarDay;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time and allocations of the generated {@link CalendarDayMapper}, for a single calendarDay and for a list the size of
+ * a page of the REST API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarDayMapperBenchmark {
+
+    @Param({ "20", "1000" })
+    public int size;
+
+    private final CalendarDayMapper calendarDayMapper = new CalendarDayMapperImpl();
+
+    private final List<CalendarDay> calendarDays = new ArrayList<>();
+
+    private final List<CalendarDayDTO> calendarDayDTOs = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < size; i++) {
+            calendarDays.add(new CalendarDay().id((long) i).date(date.plusDays(i)).version(0L));
+        }
+        calendarDayDTOs.addAll(calendarDayMapper.toDto(calendarDays));
+    }
+
+    @Benchmark
+    public CalendarDayDTO toDto() {
+        return calendarDayMapper.toDto(calendarDays.get(0));
+    }
+
+    @Benchmark
+    public CalendarDay toEntity() {
+        return calendarDayMapper.toEntity(calendarDayDTOs.get(0));
+    }
+
+    @Benchmark
+    public List<CalendarDayDTO> toDtoList() {
+        return calendarDayMapper.toDto(calendarDays);
+    }
+
+    @Benchmark
+    public List<CalendarDay> toEntityList() {
+        return calendarDayMapper.toEntity(calendarDayDTOs);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CalendarDayMapperBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build())
+            .run();
+    }
+}
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class ResourceUsageFilterTest {
+
+    private static final int ALLOCATED_BYTES = 1024 * 1024;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void measuresTheRequests() throws Exception {
+        ResourceUsageFilter filter = new ResourceUsageFilter(meterRegistry, 1.0);
+
+        filter.doFilter(request("/api/calendar-days/{id}"), new MockHttpServletResponse(), new MockFilterChain(new AllocatingServlet()));
+        filter.doFilter(request(null), new MockHttpServletResponse(), new MockFilterChain(new AllocatingServlet()));
+
+        DistributionSummary allocated = meterRegistry
+            .get(ResourceUsageFilter.ALLOCATED_METER_NAME)
+            .tag("uri", "/api/calendar-days/{id}")
+            .tag("method", "GET")
+            .summary();
+        assertThat(allocated.count()).isEqualTo(1);
+        assertThat(allocated.totalAmount()).isGreaterThanOrEqualTo(ALLOCATED_BYTES);
+        DistributionSummary cpu = meterRegistry
+            .get(ResourceUsageFilter.CPU_METER_NAME)
+            .tag("uri", "/api/calendar-days/{id}")
+            .tag("method", "GET")
+            .summary();
+        assertThat(cpu.count()).isEqualTo(1);
+        assertThat(cpu.totalAmount()).isGreaterThanOrEqualTo(0.0);
+        assertThat(meterRegistry.get(ResourceUsageFilter.ALLOCATED_METER_NAME).tag("uri", "UNKNOWN").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void measuresNothingWithoutSampling() throws Exception {
+        ResourceUsageFilter filter = new ResourceUsageFilter(meterRegistry, 0.0);
+
+        filter.doFilter(request("/api/calendar-days/{id}"), new MockHttpServletResponse(), new MockFilterChain(new AllocatingServlet()));
+
+        assertThat(meterRegistry.find(ResourceUsageFilter.ALLOCATED_METER_NAME).summaries()).isEmpty();
+        assertThat(meterRegistry.find(ResourceUsageFilter.CPU_METER_NAME).summaries()).isEmpty();
+    }
+
+    @Test
+    void doesNotMeasureTheAsyncRequests() throws Exception {
+        ResourceUsageFilter filter = new ResourceUsageFilter(meterRegistry, 1.0);
+        MockHttpServletRequest request = request("/api/calendar-days/{id}");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(meterRegistry.find(ResourceUsageFilter.ALLOCATED_METER_NAME).summaries()).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidSampleRates() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ResourceUsageFilter(meterRegistry, 1.5));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ResourceUsageFilter(meterRegistry, -0.1));
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/calendar-days/1");
+        if (pattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        }
+        return request;
+    }
+
+    private static class AllocatingServlet extends HttpServlet {
+
+        private static volatile byte[] allocated;
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+            allocated = new byte[ALLOCATED_BYTES];
+        }
+    }
+}
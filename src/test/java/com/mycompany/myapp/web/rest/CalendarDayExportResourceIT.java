@@ -0,0 +1,104 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.CalendarDay;
+import com.mycompany.myapp.repository.CalendarDayRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the {@link CalendarDayExportResource} REST controller.
+ * <p>
+ * The export is streamed from another thread than the test one, so the entities are committed instead of being
+ * rolled back with the test transaction.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CalendarDayExportResourceIT {
+
+    private static final LocalDate DEFAULT_DATE = LocalDate.of(2024, 4, 3);
+
+    private static final String ENTITY_API_URL = "/api/calendar-days/export";
+
+    @Autowired
+    private CalendarDayRepository calendarDayRepository;
+
+    @Autowired
+    private MockMvc restCalendarDayMockMvc;
+
+    private CalendarDay calendarDay;
+
+    @BeforeEach
+    public void initTest() {
+        calendarDay = calendarDayRepository.saveAndFlush(new CalendarDay().date(DEFAULT_DATE));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        calendarDayRepository.deleteById(calendarDay.getId());
+    }
+
+    @Test
+    void exportCalendarDaysAsNdjson() throws Exception {
+        MvcResult result = restCalendarDayMockMvc.perform(get(ENTITY_API_URL)).andExpect(request().asyncStarted()).andReturn();
+
+        restCalendarDayMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CalendarDayExportResource.APPLICATION_NDJSON));
+
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8))
+            .contains("{\"id\":" + calendarDay.getId() + ",\"date\":\"" + DEFAULT_DATE + "\",\"version\":0}\n");
+    }
+
+    @Test
+    void exportCalendarDaysAsCsv() throws Exception {
+        MvcResult result = restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?format=csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        restCalendarDayMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CalendarDayExportResource.TEXT_CSV));
+
+        String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,date,version\n").contains("\n" + calendarDay.getId() + "," + DEFAULT_DATE + ",0\n");
+    }
+
+    @Test
+    void exportCalendarDaysGzipped() throws Exception {
+        MvcResult result = restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        restCalendarDayMockMvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andExpect(header().string("Content-Encoding", "gzip"));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"id\":" + calendarDay.getId() + ",");
+        }
+    }
+
+    @Test
+    void exportCalendarDaysWithUnsupportedFormat() throws Exception {
+        restCalendarDayMockMvc.perform(get(ENTITY_API_URL + "?format=xml")).andExpect(status().isBadRequest());
+    }
+}
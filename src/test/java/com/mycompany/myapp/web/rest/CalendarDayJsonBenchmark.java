@@ -0,0 +1,85 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time and allocations of the JSON serialization of a list of {@link CalendarDayDTO}, as answered by
+ * {@link CalendarDayResource}, with the ISO dates Spring Boot configures.
+ * <p>
+ * {@code writer} reuses an {@link ObjectWriter} resolved once for the list type, {@code mapper} resolves it on each
+ * call as the message converter does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarDayJsonBenchmark {
+
+    @Param({ "20", "1000" })
+    public int size;
+
+    private final JsonMapper mapper = JsonMapper
+        .builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private final List<CalendarDayDTO> calendarDayDTOs = new ArrayList<>();
+
+    private ObjectWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < size; i++) {
+            CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+            calendarDayDTO.setId((long) i);
+            calendarDayDTO.setDate(date.plusDays(i));
+            calendarDayDTO.setVersion(0L);
+            calendarDayDTOs.add(calendarDayDTO);
+        }
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, CalendarDayDTO.class));
+    }
+
+    @Benchmark
+    public byte[] mapper() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(calendarDayDTOs);
+    }
+
+    @Benchmark
+    public byte[] writer() throws JsonProcessingException {
+        return writer.writeValueAsBytes(calendarDayDTOs);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CalendarDayJsonBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build())
+            .run();
+    }
+}
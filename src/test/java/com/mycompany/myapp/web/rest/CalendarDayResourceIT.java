@@ -1,13 +1,19 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.CalendarDay;
 import com.mycompany.myapp.repository.CalendarDayRepository;
+import com.mycompany.myapp.service.CalendarDayService;
+import com.mycompany.myapp.service.dto.CalendarDayCursor;
 import com.mycompany.myapp.service.dto.CalendarDayDTO;
 import com.mycompany.myapp.service.mapper.CalendarDayMapper;
 import jakarta.persistence.EntityManager;
@@ -15,14 +21,23 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -51,6 +66,9 @@ class CalendarDayResourceIT {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     private MockMvc restCalendarDayMockMvc;
 
@@ -123,19 +141,183 @@ class CalendarDayResourceIT {
         assertThat(calendarDayList).hasSize(databaseSizeBeforeCreate);
     }
 
+    /**
+     * Bulk creation commits its own transactions, so the bulk tests are not transactional and delete what they created.
+     */
+    @Test
+    void createCalendarDaysInBulk() throws Exception {
+        Set<Long> existingIds = findAllIds();
+        try {
+            restCalendarDayMockMvc
+                .perform(
+                    post(ENTITY_API_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"date\":\"2024-04-03\"},{\"date\":\"2024-04-04\"},{\"date\":null}]")
+                )
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Total-Count", "3"));
+
+            assertThat(findAllIds()).hasSize(existingIds.size() + 3);
+        } finally {
+            deleteAllExcept(existingIds);
+        }
+    }
+
+    @Test
+    void createCalendarDaysInBulkFromNdjson() throws Exception {
+        Set<Long> existingIds = findAllIds();
+        try {
+            restCalendarDayMockMvc
+                .perform(
+                    post(ENTITY_API_URL + "/bulk")
+                        .contentType("application/x-ndjson")
+                        .content("{\"date\":\"2024-04-03\"}\n{\"date\":\"2024-04-04\"}\n")
+                )
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Total-Count", "2"));
+
+            assertThat(findAllIds()).hasSize(existingIds.size() + 2);
+        } finally {
+            deleteAllExcept(existingIds);
+        }
+    }
+
+    @Test
+    void createCalendarDaysInBulkWithExistingId() throws Exception {
+        Set<Long> existingIds = findAllIds();
+        try {
+            restCalendarDayMockMvc
+                .perform(
+                    post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content("[{\"id\":1,\"date\":\"2024-04-03\"}]")
+                )
+                .andExpect(status().isBadRequest());
+
+            assertThat(findAllIds()).isEqualTo(existingIds);
+        } finally {
+            deleteAllExcept(existingIds);
+        }
+    }
+
+    @Test
+    void createCalendarDaysInBulkWithInvalidBody() throws Exception {
+        Set<Long> existingIds = findAllIds();
+        try {
+            restCalendarDayMockMvc
+                .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content("[{\"date\":\"not a date\"}]"))
+                .andExpect(status().isBadRequest());
+
+            assertThat(findAllIds()).isEqualTo(existingIds);
+        } finally {
+            deleteAllExcept(existingIds);
+        }
+    }
+
+    private Set<Long> findAllIds() {
+        return calendarDayRepository.findAll().stream().map(CalendarDay::getId).collect(Collectors.toSet());
+    }
+
+    private void deleteAllExcept(Set<Long> ids) {
+        calendarDayRepository.deleteAll(calendarDayRepository.findAll().stream().filter(day -> !ids.contains(day.getId())).toList());
+    }
+
     @Test
     @Transactional
     void getAllCalendarDays() throws Exception {
         // Initialize the database
         calendarDayRepository.saveAndFlush(calendarDay);
 
-        // Get all the calendarDayList
+        // Get the calendarDayList from right before the new entity, the pages being ordered by id
+        CalendarDayDTO previous = new CalendarDayDTO();
+        previous.setId(calendarDay.getId() - 1);
+        String cursor = CalendarDayCursor.after(CalendarDayCursor.Order.ID, previous).encode();
         restCalendarDayMockMvc
-            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .perform(get(ENTITY_API_URL + "?cursor=" + cursor))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
-            .andExpect(jsonPath("$.[*].id").value(hasItem(calendarDay.getId().intValue())))
-            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())));
+            .andExpect(jsonPath("$.[0].id").value(calendarDay.getId().intValue()))
+            .andExpect(jsonPath("$.[0].date").value(DEFAULT_DATE.toString()));
+    }
+
+    @Test
+    @Transactional
+    void getAllCalendarDaysWithCursor() throws Exception {
+        // Initialize the database
+        CalendarDay first = calendarDayRepository.saveAndFlush(createEntity(em));
+        CalendarDay second = calendarDayRepository.saveAndFlush(createEntity(em));
+        CalendarDay third = calendarDayRepository.saveAndFlush(createEntity(em));
+
+        // Seek right before the new entities, then page through them
+        CalendarDayDTO previous = new CalendarDayDTO();
+        previous.setId(first.getId() - 1);
+        String cursor = CalendarDayCursor.after(CalendarDayCursor.Order.ID, previous).encode();
+
+        MvcResult result = restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?size=2&cursor=" + cursor))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").value(hasSize(2)))
+            .andExpect(jsonPath("$.[0].id").value(first.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(second.getId().intValue()))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andReturn();
+
+        String link = result.getResponse().getHeader(HttpHeaders.LINK);
+        String nextUrl = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        restCalendarDayMockMvc
+            .perform(get(nextUrl))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(third.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getAllCalendarDaysOrderedByDate() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(createUpdatedEntity(em));
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?orderBy=date&size=" + CalendarDayResource.MAX_PAGE_SIZE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
+            .andExpect(jsonPath("$.[*].date").value(hasItem(UPDATED_DATE.toString())));
+    }
+
+    @Test
+    @Transactional
+    void getAllCalendarDaysWithInvalidCursor() throws Exception {
+        restCalendarDayMockMvc.perform(get(ENTITY_API_URL + "?cursor=invalid")).andExpect(status().isBadRequest());
+        restCalendarDayMockMvc.perform(get(ENTITY_API_URL + "?orderBy=unknown")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllCalendarDaysBetweenDates() throws Exception {
+        // Initialize the database
+        LocalDate first = LocalDate.of(1800, 1, 1);
+        calendarDayRepository.saveAndFlush(new CalendarDay().date(first));
+        calendarDayRepository.saveAndFlush(new CalendarDay().date(first.plusDays(1)));
+        calendarDayRepository.saveAndFlush(new CalendarDay().date(first.plusDays(2)));
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?from=" + first + "&to=" + first.plusDays(1)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.[*].date").value(contains(first.toString(), first.plusDays(1).toString())));
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?from=" + first + "&to=" + first.plusDays(2) + "&sort=date,desc&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "3"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.[*].date").value(contains(first.plusDays(2).toString(), first.plusDays(1).toString())));
+    }
+
+    @Test
+    @Transactional
+    void getAllCalendarDaysBetweenDatesWithInvalidParameters() throws Exception {
+        restCalendarDayMockMvc.perform(get(ENTITY_API_URL + "?from=2024-04-03&to=2024-04-02")).andExpect(status().isBadRequest());
+        restCalendarDayMockMvc.perform(get(ENTITY_API_URL + "?from=2024-04-03&to=2024-04-04&sort=id")).andExpect(status().isBadRequest());
     }
 
     @Test
@@ -153,6 +335,43 @@ class CalendarDayResourceIT {
             .andExpect(jsonPath("$.date").value(DEFAULT_DATE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getCalendarDaysByIds() throws Exception {
+        // Initialize the database
+        CalendarDay otherCalendarDay = createUpdatedEntity(em);
+        calendarDayRepository.saveAndFlush(calendarDay);
+        calendarDayRepository.saveAndFlush(otherCalendarDay);
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?ids={ids}", otherCalendarDay.getId() + "," + Long.MAX_VALUE + "," + calendarDay.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherCalendarDay.getId().intValue(), calendarDay.getId().intValue())))
+            .andExpect(jsonPath("$.[*].date").value(contains(UPDATED_DATE.toString(), DEFAULT_DATE.toString())));
+
+        restCalendarDayMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/by-ids")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(calendarDay.getId(), calendarDay.getId())))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(calendarDay.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getCalendarDaysByTooManyIds() throws Exception {
+        List<Long> ids = LongStream.rangeClosed(1, CalendarDayResource.MAX_PAGE_SIZE + 1).boxed().toList();
+
+        restCalendarDayMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/by-ids").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(ids))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getNonExistingCalendarDay() throws Exception {
@@ -160,6 +379,84 @@ class CalendarDayResourceIT {
         restCalendarDayMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getCalendarDayWithMatchingETagIsNotModified() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL_ID, calendarDay.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(jsonPath("$.version").value(0));
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL_ID, calendarDay.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL_ID, calendarDay.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void getAllCalendarDaysBetweenDatesWithMatchingETagIsNotModified() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        String eTag = restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}", DEFAULT_DATE, DEFAULT_DATE))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}", DEFAULT_DATE, DEFAULT_DATE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        // Updating a calendarDay of the range changes the entity tag
+        calendarDayRepository.updateDate(calendarDay.getId(), DEFAULT_DATE, null);
+
+        restCalendarDayMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}", DEFAULT_DATE, DEFAULT_DATE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+    }
+
+    /**
+     * Cache puts and evictions are deferred to the commit, so this test is not transactional and deletes what it created.
+     */
+    @Test
+    void getCalendarDayIsCachedUntilDeleted() throws Exception {
+        // Initialize the database
+        Long id = calendarDayRepository.saveAndFlush(calendarDay).getId();
+        Cache cache = cacheManager.getCache(CalendarDayService.CALENDAR_DAY_CACHE);
+        try {
+            assertThat(cache.get(id)).isNull();
+
+            restCalendarDayMockMvc.perform(get(ENTITY_API_URL_ID, id)).andExpect(status().isOk());
+            assertThat(cache.get(id, CalendarDayDTO.class)).extracting(CalendarDayDTO::getDate).isEqualTo(DEFAULT_DATE);
+
+            restCalendarDayMockMvc.perform(delete(ENTITY_API_URL_ID, id)).andExpect(status().isNoContent());
+            assertThat(cache.get(id)).isNull();
+        } finally {
+            calendarDayRepository.findById(id).ifPresent(calendarDayRepository::delete);
+            cache.evict(id);
+        }
+    }
+
+    @Test
+    void getNonExistingCalendarDayIsNotCached() throws Exception {
+        Cache cache = cacheManager.getCache(CalendarDayService.CALENDAR_DAY_CACHE);
+
+        restCalendarDayMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
+        assertThat(cache.get(Long.MAX_VALUE)).isNull();
+    }
+
     @Test
     @Transactional
     void putExistingCalendarDay() throws Exception {
@@ -190,6 +487,179 @@ class CalendarDayResourceIT {
         assertThat(testCalendarDay.getDate()).isEqualTo(UPDATED_DATE);
     }
 
+    @Test
+    @Transactional
+    void putExistingCalendarDayRunsASingleStatement() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
+        calendarDayDTO.setDate(UPDATED_DATE);
+
+        assertThat(
+            countStatements(() ->
+                restCalendarDayMockMvc
+                    .perform(
+                        put(ENTITY_API_URL_ID, calendarDayDTO.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.date").value(UPDATED_DATE.toString()))
+            )
+        )
+            .isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void patchExistingCalendarDayRunsASingleStatement() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(calendarDay.getId());
+        calendarDayDTO.setDate(UPDATED_DATE);
+        calendarDayDTO.setVersion(calendarDay.getVersion());
+
+        assertThat(
+            countStatements(() ->
+                restCalendarDayMockMvc
+                    .perform(
+                        patch(ENTITY_API_URL_ID, calendarDayDTO.getId())
+                            .contentType("application/merge-patch+json")
+                            .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+                    )
+                    .andExpect(status().isOk())
+            )
+        )
+            .isEqualTo(1);
+    }
+
+    /**
+     * The second level cache is only filled by committed transactions, so this test is not transactional and deletes what
+     * it created.
+     */
+    @Test
+    void patchCalendarDayWithoutVersionReturnsTheUpdatedCalendarDay() throws Exception {
+        // Initialize the database, and the second level cache
+        Long id = calendarDayRepository.saveAndFlush(calendarDay).getId();
+        assertThat(calendarDayRepository.findById(id)).isPresent();
+        Cache cache = cacheManager.getCache(CalendarDayService.CALENDAR_DAY_CACHE);
+        try {
+            CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+            calendarDayDTO.setId(id);
+            calendarDayDTO.setDate(UPDATED_DATE);
+
+            restCalendarDayMockMvc
+                .perform(
+                    patch(ENTITY_API_URL_ID, id)
+                        .contentType("application/merge-patch+json")
+                        .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.date").value(UPDATED_DATE.toString()))
+                .andExpect(jsonPath("$.version").value(1));
+
+            assertThat(cache.get(id, CalendarDayDTO.class)).extracting(CalendarDayDTO::getDate).isEqualTo(UPDATED_DATE);
+            assertThat(calendarDayRepository.findById(id)).get().extracting(CalendarDay::getVersion).isEqualTo(1L);
+        } finally {
+            calendarDayRepository.findById(id).ifPresent(calendarDayRepository::delete);
+            cache.evict(id);
+        }
+    }
+
+    /**
+     * Count the JDBC statements prepared while running the request.
+     */
+    private long countStatements(ThrowingRunnable request) throws Exception {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            request.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @Test
+    @Transactional
+    void putCalendarDayWithIfMatch() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
+        calendarDayDTO.setDate(UPDATED_DATE);
+        calendarDayDTO.setVersion(null);
+
+        restCalendarDayMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, calendarDayDTO.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.version").value(1));
+
+        // The calendarDay is not at version 0 anymore
+        restCalendarDayMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, calendarDayDTO.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(calendarDayRepository.findById(calendarDay.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @Transactional
+    void putCalendarDayWithStaleVersion() throws Exception {
+        // Initialize the database
+        calendarDayRepository.saveAndFlush(calendarDay);
+
+        CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
+        calendarDayDTO.setDate(UPDATED_DATE);
+        calendarDayDTO.setVersion(calendarDay.getVersion() + 1);
+
+        restCalendarDayMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, calendarDayDTO.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void patchNonExistingCalendarDayWithIfMatch() throws Exception {
+        CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
+        calendarDayDTO.setId(longCount.incrementAndGet());
+
+        restCalendarDayMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, calendarDayDTO.getId())
+                    .header(HttpHeaders.IF_MATCH, "*")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
+            )
+            .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @Transactional
     void putNonExistingCalendarDay() throws Exception {
@@ -199,14 +669,14 @@ class CalendarDayResourceIT {
         // Create the CalendarDay
         CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, the update does not match any row
         restCalendarDayMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, calendarDayDTO.getId())
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the CalendarDay in the database
         List<CalendarDay> calendarDayList = calendarDayRepository.findAll();
@@ -322,14 +792,14 @@ class CalendarDayResourceIT {
         // Create the CalendarDay
         CalendarDayDTO calendarDayDTO = calendarDayMapper.toDto(calendarDay);
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, the update does not match any row
         restCalendarDayMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, calendarDayDTO.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(calendarDayDTO))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the CalendarDay in the database
         List<CalendarDay> calendarDayList = calendarDayRepository.findAll();
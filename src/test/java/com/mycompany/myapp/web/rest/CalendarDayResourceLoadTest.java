@@ -0,0 +1,223 @@
+package com.mycompany.myapp.web.rest;
+
+import static com.mycompany.myapp.security.jwt.JwtAuthenticationTestUtils.createValidTokenForUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.WebservicedayfinderApp;
+import com.mycompany.myapp.config.AsyncSyncConfiguration;
+import com.mycompany.myapp.config.EmbeddedSQL;
+import com.mycompany.myapp.domain.CalendarDay;
+import com.mycompany.myapp.loadtest.LoadGenerator;
+import com.mycompany.myapp.loadtest.LoadReport;
+import com.mycompany.myapp.loadtest.LoadTestSettings;
+import com.mycompany.myapp.repository.CalendarDayRepository;
+import com.mycompany.myapp.service.dto.CalendarDayDTO;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Load test of the {@link CalendarDayResource} REST controller, through HTTP on a server started on a random port,
+ * failing when the service level objectives of {@link LoadTestSettings} are not met.
+ * <p>
+ * It is only run by the {@code loadtest} Maven profile, where the settings are passed as system properties:
+ * {@code ./mvnw -Ploadtest verify -Dloadtest.rate=200 -Dloadtest.slo.p99=100ms}. The connection pool has the size of
+ * the production one, the test profiles shrinking it.
+ */
+@SpringBootTest(
+    classes = { WebservicedayfinderApp.class, AsyncSyncConfiguration.class },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.datasource.hikari.maximum-pool-size=10"
+)
+@EmbeddedSQL
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class CalendarDayResourceLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarDayResourceLoadTest.class);
+
+    private static final String DEFAULT_MIX = "read:60,list:15,create:10,update:10,delete:5";
+
+    private static final int INITIAL_CALENDAR_DAYS = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jhipster.security.authentication.jwt.base64-secret}")
+    private String jwtKey;
+
+    @Autowired
+    private CalendarDayRepository calendarDayRepository;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private final IdPool ids = new IdPool();
+
+    private final AtomicLong nextEpochDay = new AtomicLong(LocalDate.of(3000, 1, 1).toEpochDay());
+
+    private ExecutorService executor;
+
+    private HttpClient client;
+
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        client = HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(5)).build();
+        List<CalendarDay> calendarDays = LongStream
+            .range(0, INITIAL_CALENDAR_DAYS)
+            .mapToObj(i -> new CalendarDay().date(LocalDate.ofEpochDay(nextEpochDay.getAndIncrement())))
+            .toList();
+        calendarDayRepository.saveAll(calendarDays).forEach(calendarDay -> ids.add(calendarDay.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void meetsTheServiceLevelObjectives() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties(DEFAULT_MIX);
+        Duration runTime = settings.warmup().plus(settings.duration());
+        authorization = "Bearer " + createValidTokenForUser(jwtKey, "loadtest", runTime.plusMinutes(5));
+
+        LoadReport report = new LoadGenerator(settings).run(this::send);
+
+        log.info("Load test of the calendarDays at {} requests per second:\n{}", settings.rate(), report.format());
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(report.throughput()).as("throughput").isGreaterThanOrEqualTo(settings.rate() * settings.minThroughputRatio());
+        softly.assertThat(report.errorRate()).as("error rate").isLessThanOrEqualTo(settings.errorRate());
+        softly.assertThat(report.latency(50)).as("p50 latency").isLessThanOrEqualTo(settings.p50());
+        softly.assertThat(report.latency(99)).as("p99 latency").isLessThanOrEqualTo(settings.p99());
+        softly.assertThat(report.latency(99.9)).as("p999 latency").isLessThanOrEqualTo(settings.p999());
+        softly.assertAll();
+    }
+
+    private CompletableFuture<Boolean> send(String operation) {
+        return switch (operation) {
+            case "create" -> create();
+            case "read" -> send(request("/" + ids.random()).GET(), 200, 404);
+            case "list" -> send(request("?size=20").GET(), 200);
+            case "update" -> update();
+            case "delete" -> delete();
+            default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+        };
+    }
+
+    private CompletableFuture<Boolean> create() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setDate(LocalDate.ofEpochDay(nextEpochDay.getAndIncrement()));
+        return client
+            .sendAsync(request("").POST(json(calendarDayDTO)).build(), HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> {
+                if (response.statusCode() != 201) {
+                    return false;
+                }
+                ids.add(read(response.body()).getId());
+                return true;
+            });
+    }
+
+    private CompletableFuture<Boolean> update() {
+        CalendarDayDTO calendarDayDTO = new CalendarDayDTO();
+        calendarDayDTO.setId(ids.random());
+        calendarDayDTO.setDate(LocalDate.ofEpochDay(nextEpochDay.getAndIncrement()));
+        // Without a version, the last update wins: the concurrent ones do not conflict
+        return send(request("/" + calendarDayDTO.getId()).PUT(json(calendarDayDTO)), 200, 404);
+    }
+
+    private CompletableFuture<Boolean> delete() {
+        Long id = ids.removeRandom();
+        return send(request("/" + id).DELETE(), 204);
+    }
+
+    private CompletableFuture<Boolean> send(HttpRequest.Builder request, int... expectedStatuses) {
+        return client
+            .sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+            .thenApply(response -> {
+                for (int expectedStatus : expectedStatuses) {
+                    if (response.statusCode() == expectedStatus) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest
+            .newBuilder(URI.create("http://localhost:" + port + "/api/calendar-days" + path))
+            .timeout(Duration.ofSeconds(30))
+            .header(HttpHeaders.AUTHORIZATION, authorization)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private HttpRequest.BodyPublisher json(CalendarDayDTO calendarDayDTO) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(om.writeValueAsBytes(calendarDayDTO));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CalendarDayDTO read(byte[] body) {
+        try {
+            return om.readValue(body, CalendarDayDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The ids of the calendarDays which were created and not deleted yet, picked at random.
+     */
+    private static final class IdPool {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        private synchronized void add(Long id) {
+            ids.add(id);
+        }
+
+        private synchronized Long random() {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        private synchronized Long removeRandom() {
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            Long id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+}
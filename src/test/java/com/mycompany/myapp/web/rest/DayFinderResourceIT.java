@@ -0,0 +1,97 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link DayFinderResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class DayFinderResourceIT {
+
+    private static final String API_URL = "/api/day-finder";
+
+    @Autowired
+    private MockMvc restDayFinderMockMvc;
+
+    @Test
+    void getDayInfo() throws Exception {
+        restDayFinderMockMvc
+            .perform(get(API_URL + "/{date}", "2024-12-30"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.date").value("2024-12-30"))
+            .andExpect(jsonPath("$.dayOfWeek").value("MONDAY"))
+            .andExpect(jsonPath("$.isoWeek").value(1))
+            .andExpect(jsonPath("$.isoWeekYear").value(2025))
+            .andExpect(jsonPath("$.dayOfYear").value(365))
+            .andExpect(jsonPath("$.leapYear").value(true));
+    }
+
+    @Test
+    void getDayInfoByParam() throws Exception {
+        restDayFinderMockMvc
+            .perform(get(API_URL + "?date=2023-01-01"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dayOfWeek").value("SUNDAY"))
+            .andExpect(jsonPath("$.isoWeek").value(52))
+            .andExpect(jsonPath("$.isoWeekYear").value(2022))
+            .andExpect(jsonPath("$.leapYear").value(false));
+    }
+
+    @Test
+    void getInvalidDayInfo() throws Exception {
+        restDayFinderMockMvc.perform(get(API_URL + "/{date}", "2023-02-29")).andExpect(status().isBadRequest());
+        restDayFinderMockMvc.perform(get(API_URL + "?date=yesterday")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getDaysOfWeekFromJson() throws Exception {
+        restDayFinderMockMvc
+            .perform(post(API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content("[\"2024-04-03\",\"2024-04-31\",0]"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().string("[3,0,4]"));
+    }
+
+    @Test
+    void getDaysOfWeekFromText() throws Exception {
+        restDayFinderMockMvc
+            .perform(post(API_URL + "/batch").contentType(MediaType.TEXT_PLAIN).content("2024-04-03\n2024-04-07\n"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("3\n7\n"));
+    }
+
+    @Test
+    void getDaysOfWeekFromPackedEpochDays() throws Exception {
+        byte[] packed = ByteBuffer.allocate(8).putInt((int) LocalDate.of(2024, 4, 3).toEpochDay()).putInt(0).array();
+        restDayFinderMockMvc
+            .perform(post(API_URL + "/batch").contentType(MediaType.APPLICATION_OCTET_STREAM).content(packed))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+            .andExpect(content().bytes(new byte[] { 3, 4 }));
+    }
+
+    @Test
+    void getDaysOfWeekFromInvalidBatch() throws Exception {
+        restDayFinderMockMvc
+            .perform(post(API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content("{\"date\":\"2024-04-03\"}"))
+            .andExpect(status().isBadRequest());
+        restDayFinderMockMvc
+            .perform(post(API_URL + "/batch").contentType(MediaType.APPLICATION_OCTET_STREAM).content(new byte[3]))
+            .andExpect(status().isBadRequest());
+    }
+}
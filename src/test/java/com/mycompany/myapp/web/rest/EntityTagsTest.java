@@ -0,0 +1,50 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class EntityTagsTest {
+
+    @Test
+    void tagsTheVersion() {
+        assertThat(EntityTags.strong(3L)).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void parsesIfMatch() {
+        assertThat(EntityTags.parseIfMatch("\"3\"")).isEqualTo(3L);
+        assertThat(EntityTags.parseIfMatch(" \"3\" ")).isEqualTo(3L);
+        assertThat(EntityTags.parseIfMatch("*")).isNull();
+    }
+
+    @Test
+    void failsPreconditionsThatCannotMatch() {
+        for (String ifMatch : List.of("W/\"3\"", "\"3\", \"4\"", "\"three\"", "3", "\"\"")) {
+            assertThatThrownBy(() -> EntityTags.parseIfMatch(ifMatch))
+                .isInstanceOfSatisfying(
+                    ResponseStatusException.class,
+                    e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                );
+        }
+    }
+
+    @Test
+    void tagsCollectionsWithTheirIdsAndVersions() {
+        List<long[]> entities = List.of(new long[] { 1, 0 }, new long[] { 2, 0 });
+        String eTag = EntityTags.weak(entities, entity -> entity[0], entity -> entity[1], 2);
+
+        assertThat(eTag).startsWith("W/\"").endsWith("\"");
+        assertThat(EntityTags.weak(List.of(new long[] { 1, 0 }, new long[] { 2, 0 }), entity -> entity[0], entity -> entity[1], 2))
+            .isEqualTo(eTag);
+        assertThat(EntityTags.weak(List.of(new long[] { 1, 0 }, new long[] { 2, 1 }), entity -> entity[0], entity -> entity[1], 2))
+            .isNotEqualTo(eTag);
+        assertThat(EntityTags.weak(List.of(new long[] { 2, 0 }, new long[] { 1, 0 }), entity -> entity[0], entity -> entity[1], 2))
+            .isNotEqualTo(eTag);
+        assertThat(EntityTags.weak(entities, entity -> entity[0], entity -> entity[1], 3)).isNotEqualTo(eTag);
+    }
+}
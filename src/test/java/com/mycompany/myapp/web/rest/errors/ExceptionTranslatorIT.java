@@ -74,6 +74,16 @@ class ExceptionTranslatorIT {
             .andExpect(jsonPath("$.detail").value("test access denied!"));
     }
 
+    @Test
+    void testTaskRejected() throws Exception {
+        mockMvc
+            .perform(get("/api/exception-translator-test/task-rejected"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.message").value("error.http.503"))
+            .andExpect(jsonPath("$.detail").value("test task rejected!"));
+    }
+
     @Test
     void testUnauthorized() throws Exception {
         mockMvc